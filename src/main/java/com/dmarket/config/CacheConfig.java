@@ -0,0 +1,153 @@
+package com.dmarket.config;
+
+import com.dmarket.domain.product.Category;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.BatchStrategies;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시 설정
+ * - redisCacheManager: JSON 직렬화, 캐시 이름별 TTL
+ * - cacheManager(기본): 인스턴스 메모리(Caffeine) 캐시를 Redis 캐시 앞에 둔 2단계 캐시
+ * - 캐시 오류는 기록만 하고 원본 조회로 진행 (캐시 장애가 API 오류로 이어지지 않도록 함)
+ */
+@Slf4j
+@EnableCaching
+@Configuration
+public class CacheConfig implements CachingConfigurer {
+
+    private static final String KEY_PREFIX = "cache:";
+
+    @Value("${cache.local.ttl-seconds:30}")
+    private long localTtlSeconds;
+
+    @Value("${cache.local.max-size:10000}")
+    private long localMaxSize;
+
+    @Value("${cache.redis.default-ttl-seconds:600}")
+    private long defaultTtlSeconds;
+
+    @Value("${cache.redis.ttl-seconds.category-list:3600}")
+    private long categoryListTtlSeconds;
+
+    @Value("${cache.redis.ttl-seconds.product-detail:600}")
+    private long productDetailTtlSeconds;
+
+    @Value("${cache.redis.ttl-seconds.category-product-count:300}")
+    private long categoryProductCountTtlSeconds;
+
+    @Bean
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
+        RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
+                .prefixCacheNameWith(KEY_PREFIX)
+                .entryTtl(Duration.ofSeconds(defaultTtlSeconds))
+                .disableCachingNullValues()
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new GenericJackson2JsonRedisSerializer(cacheObjectMapper())));
+
+        Map<String, RedisCacheConfiguration> cacheConfigs = Map.of(
+                Category.RedisCacheKey.CATEGORY_LIST, defaultConfig.entryTtl(Duration.ofSeconds(categoryListTtlSeconds)),
+                Category.RedisCacheKey.PRODUCT_DETAIL, defaultConfig.entryTtl(Duration.ofSeconds(productDetailTtlSeconds)),
+                Category.RedisCacheKey.CATEGORY_PRODUCT_COUNT, defaultConfig.entryTtl(Duration.ofSeconds(categoryProductCountTtlSeconds)));
+
+        // 전체 삭제(allEntries) 시 KEYS 대신 SCAN 사용
+        return RedisCacheManager.builder(RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory, BatchStrategies.scan(1000)))
+                .cacheDefaults(defaultConfig)
+                .withInitialCacheConfigurations(cacheConfigs)
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public CacheManager cacheManager(@Qualifier("redisCacheManager") RedisCacheManager redisCacheManager, MeterRegistry meterRegistry) {
+        Map<String, Cache> caches = new ConcurrentHashMap<>();
+        return new CacheManager() {
+            @Override
+            public Cache getCache(String name) {
+                return caches.computeIfAbsent(name, cacheName -> new TwoLevelCache(
+                        cacheName,
+                        new CaffeineCache(cacheName, Caffeine.newBuilder()
+                                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                                .maximumSize(localMaxSize)
+                                .build()),
+                        redisCacheManager.getCache(cacheName),
+                        meterRegistry));
+            }
+
+            @Override
+            public Collection<String> getCacheNames() {
+                return caches.keySet();
+            }
+        };
+    }
+
+    // @Cacheable 등 캐시 애너테이션에서 발생한 캐시 오류는 기록 후 캐시 없이 진행
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new CacheErrorHandler() {
+            @Override
+            public void handleCacheGetError(RuntimeException exception, Cache cache, Object key) {
+                log.warn("[CacheConfig] 캐시 조회 실패, 원본 조회: cache={}, key={}, {}", cache.getName(), key, exception.getMessage());
+            }
+
+            @Override
+            public void handleCachePutError(RuntimeException exception, Cache cache, Object key, Object value) {
+                log.warn("[CacheConfig] 캐시 저장 실패: cache={}, key={}, {}", cache.getName(), key, exception.getMessage());
+            }
+
+            @Override
+            public void handleCacheEvictError(RuntimeException exception, Cache cache, Object key) {
+                log.error("[CacheConfig] 캐시 삭제 실패: cache={}, key={}, {}", cache.getName(), key, exception.getMessage());
+            }
+
+            @Override
+            public void handleCacheClearError(RuntimeException exception, Cache cache) {
+                log.error("[CacheConfig] 캐시 전체 삭제 실패: cache={}, {}", cache.getName(), exception.getMessage());
+            }
+        };
+    }
+
+    // 캐시 값 직렬화용 (클래스 정보를 함께 저장해 DTO 타입으로 복원)
+    private ObjectMapper cacheObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        objectMapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder().allowIfSubType("com.dmarket.").allowIfSubType("java.").build(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY);
+        return objectMapper;
+    }
+}
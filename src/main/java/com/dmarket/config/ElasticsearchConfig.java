@@ -0,0 +1,65 @@
+package com.dmarket.config;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import co.elastic.clients.transport.rest_client.RestClientTransport;
+import org.apache.http.Header;
+import org.apache.http.HttpHost;
+import org.apache.http.message.BasicHeader;
+import org.elasticsearch.client.RestClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ElasticsearchConfig {
+
+    @Value("${elasticsearch.serverUrl}")
+    private String serverUrl;
+
+    @Value("${elasticsearch.apiKey}")
+    private String apiKey;
+
+    // 커넥션 풀
+    @Value("${elasticsearch.pool.max-total:50}")
+    private int maxConnTotal;
+
+    @Value("${elasticsearch.pool.max-per-route:20}")
+    private int maxConnPerRoute;
+
+    // 타임아웃 (ms)
+    @Value("${elasticsearch.timeout.connect:1000}")
+    private int connectTimeout;
+
+    @Value("${elasticsearch.timeout.socket:3000}")
+    private int socketTimeout;
+
+    @Value("${elasticsearch.timeout.connection-request:500}")
+    private int connectionRequestTimeout;
+
+    // 검색과 색인에서 같은 커넥션 풀을 사용하도록 클라이언트를 하나만 생성
+    @Bean(destroyMethod = "close")
+    public RestClient elasticsearchRestClient() {
+        return RestClient
+                .builder(HttpHost.create(serverUrl))
+                .setDefaultHeaders(new Header[]{
+                        new BasicHeader("Authorization", "ApiKey " + apiKey)
+                })
+                .setRequestConfigCallback(requestConfig -> requestConfig
+                        .setConnectTimeout(connectTimeout)
+                        .setSocketTimeout(socketTimeout)
+                        .setConnectionRequestTimeout(connectionRequestTimeout))
+                .setHttpClientConfigCallback(httpClient -> httpClient
+                        .setMaxConnTotal(maxConnTotal)
+                        .setMaxConnPerRoute(maxConnPerRoute))
+                .build();
+    }
+
+    @Bean
+    public ElasticsearchClient elasticsearchClient(RestClient elasticsearchRestClient) {
+        ElasticsearchTransport transport = new RestClientTransport(
+                elasticsearchRestClient, new JacksonJsonpMapper());
+        return new ElasticsearchClient(transport);
+    }
+}
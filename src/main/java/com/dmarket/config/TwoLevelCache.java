@@ -0,0 +1,167 @@
+package com.dmarket.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 1차 인스턴스 메모리 캐시 + 2차 Redis 캐시
+ * - 조회: 메모리 -> Redis -> 원본 순서, Redis에서 찾은 값은 메모리에도 저장
+ * - 저장/삭제: 두 캐시 모두 반영 (다른 인스턴스의 메모리 캐시는 짧은 TTL로 만료)
+ * - 원본 조회는 메모리 캐시(Caffeine)의 키별 원자적 계산으로 한 번만 수행 (동시에 미적중된 요청은 결과를 기다림)
+ * - Redis 장애 시에는 Redis 단계를 건너뛰고 메모리 캐시와 원본으로 동작
+ * - 캐시 이름별 적중/미적중 수를 cache.gets 지표로 기록
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final Cache localCache;
+    private final Cache redisCache;
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+
+    public TwoLevelCache(String name, Cache localCache, Cache redisCache, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+        this.localHitCounter = counter(meterRegistry, "local", "hit");
+        this.redisHitCounter = counter(meterRegistry, "redis", "hit");
+        this.missCounter = counter(meterRegistry, "none", "miss");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = localCache.get(key);
+        if (value != null) {
+            localHitCounter.increment();
+            return value;
+        }
+        value = getFromRedis(key);
+        if (value != null) {
+            redisHitCounter.increment();
+            localCache.put(key, value.get());
+            return value;
+        }
+        missCounter.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object stored = value.get();
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("캐시 값의 타입이 다릅니다. cache=" + name + ", key=" + key);
+        }
+        return (T) stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        AtomicBoolean computed = new AtomicBoolean();
+        try {
+            T value = localCache.get(key, () -> {
+                computed.set(true);
+                ValueWrapper cached = getFromRedis(key);
+                if (cached != null) {
+                    redisHitCounter.increment();
+                    return (T) cached.get();
+                }
+                missCounter.increment();
+                T loaded = valueLoader.call();
+                putToRedis(key, loaded);
+                return loaded;
+            });
+            if (!computed.get()) {
+                localHitCounter.increment();
+            }
+            return value;
+        } catch (ValueRetrievalException e) {
+            // 조회 중 발생한 비즈니스 예외(NotFoundException 등)는 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        localCache.put(key, value);
+        putToRedis(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        try {
+            redisCache.evict(key);
+        } catch (DataAccessException | SerializationException e) {
+            log.error("[TwoLevelCache] Redis 캐시 삭제 실패 (TTL까지 이전 값이 남을 수 있음): cache={}, key={}, {}", name, key, e.getMessage());
+        }
+        localCache.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        try {
+            redisCache.clear();
+        } catch (DataAccessException | SerializationException e) {
+            log.error("[TwoLevelCache] Redis 캐시 전체 삭제 실패 (TTL까지 이전 값이 남을 수 있음): cache={}, {}", name, e.getMessage());
+        }
+        localCache.clear();
+    }
+
+    // Redis 장애 시 미적중으로 처리
+    private ValueWrapper getFromRedis(Object key) {
+        try {
+            return redisCache.get(key);
+        } catch (DataAccessException | SerializationException e) {
+            log.warn("[TwoLevelCache] Redis 캐시 조회 실패: cache={}, key={}, {}", name, key, e.getMessage());
+            return null;
+        }
+    }
+
+    // Redis 장애 시 메모리 캐시에만 저장
+    private void putToRedis(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        try {
+            redisCache.put(key, value);
+        } catch (DataAccessException | SerializationException e) {
+            log.warn("[TwoLevelCache] Redis 캐시 저장 실패: cache={}, key={}, {}", name, key, e.getMessage());
+        }
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String level, String result) {
+        return Counter.builder("cache.gets")
+                .tag("cache", name)
+                .tag("level", level)
+                .tag("result", result)
+                .description("2단계 캐시 조회 결과")
+                .register(meterRegistry);
+    }
+}
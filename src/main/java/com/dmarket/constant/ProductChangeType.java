@@ -0,0 +1,10 @@
+package com.dmarket.constant;
+
+// 상품 변경 이벤트 종류
+public enum ProductChangeType {
+    PRODUCT,    // 상품 등록/수정
+    OPTION,     // 옵션 추가/삭제
+    IMAGE,      // 이미지 변경
+    REVIEW,     // 리뷰 작성/삭제
+    STOCK       // 재고 변경
+}
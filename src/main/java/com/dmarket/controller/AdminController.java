@@ -303,6 +303,20 @@ public class AdminController {
         return new ResponseEntity<>(CMResDto.successDataRes(dtos), HttpStatus.OK);
     }
 
+    // 상품 검색 인덱스 재색인 시작
+    @PostMapping("/products/search-index/reindex")
+    public ResponseEntity<CMResDto<AdminResDto.ReindexStatusResDto>> startProductReindex() {
+        AdminResDto.ReindexStatusResDto status = adminService.startProductReindex();
+        return new ResponseEntity<>(CMResDto.successDataRes(status), HttpStatus.OK);
+    }
+
+    // 상품 검색 인덱스 재색인 진행 상황 조회
+    @GetMapping("/products/search-index/reindex")
+    public ResponseEntity<CMResDto<AdminResDto.ReindexStatusResDto>> getProductReindexStatus() {
+        AdminResDto.ReindexStatusResDto status = adminService.getProductReindexStatus();
+        return new ResponseEntity<>(CMResDto.successDataRes(status), HttpStatus.OK);
+    }
+
     /**
      * 상품 옵션: ProductOption
      */
@@ -6,6 +6,7 @@ import com.dmarket.dto.request.QnaReqDto;
 import com.dmarket.dto.request.ReviewReqDto;
 import com.dmarket.dto.response.CMResDto;
 import com.dmarket.dto.response.CategoryResDto;
+import com.dmarket.dto.response.CursorResDto;
 import com.dmarket.dto.response.ProductResDto;
 import com.dmarket.dto.response.QnaResDto;
 import com.dmarket.service.ProductService;
@@ -58,6 +59,21 @@ public class ProductController {
         return new ResponseEntity<>(CMResDto.successDataRes(products), HttpStatus.OK);
     }
 
+    // 카테고리별 상품 목록 커서 조회 api (count 쿼리 없음, 첫 페이지는 after= 로 요청)
+    @GetMapping(value = "/categories/{cateId}", params = "after")
+    public ResponseEntity<CMResDto<CursorResDto<ProductResDto.ProductListResDto>>> getCategoryProductsByCursor(@PathVariable Long cateId,
+            @RequestParam(required = false, value = "sorter", defaultValue = "review_count") String sorter,
+            @RequestParam(required = false, value = "min-price", defaultValue = "0") Integer minPrice,
+            @RequestParam(required = false, value = "max-price", defaultValue = "9999999") Integer maxPrice,
+            @RequestParam(required = false, value = "star", defaultValue = "0.0F") Float star,
+            @RequestParam(required = false, value = "with-total", defaultValue = "false") boolean withTotal,
+            @RequestParam(value = "after") String after) {
+        CursorResDto<ProductResDto.ProductListResDto> products = productService.getCategoryProductsByCursor(after, cateId, sorter,
+                minPrice, maxPrice, star, withTotal);
+        log.info("데이터 조회 완료");
+        return new ResponseEntity<>(CMResDto.successDataRes(products), HttpStatus.OK);
+    }
+
     // 상품 목록 조건 검색 api
     @GetMapping("/search")
     public ResponseEntity<CMResDto<ProductResDto.ProductSearchListResDto>> getSearchProducts(@RequestParam(required = true, value = "q") String query,
@@ -74,36 +90,59 @@ public class ProductController {
         return new ResponseEntity<>(CMResDto.successDataRes(products), HttpStatus.OK);
     }
 
+    // 상품 목록 조건 검색 api (커서 기반, 첫 페이지는 cursor= 로 요청)
+    @GetMapping(value = "/search", params = "cursor")
+    public ResponseEntity<CMResDto<ProductResDto.ProductSearchCursorResDto>> getSearchProductsByCursor(@RequestParam(required = true, value = "q") String query,
+            @RequestParam(required = false, value = "sorter", defaultValue = "review_count") String sorter,
+            @RequestParam(required = false, value = "min-price", defaultValue = "0") Integer minPrice,
+            @RequestParam(required = false, value = "max-price", defaultValue = "9999999") Integer maxPrice,
+            @RequestParam(required = false, value = "star", defaultValue = "0") Float star,
+            @RequestParam(value = "cursor") String cursor) throws IOException {
+
+        ProductResDto.ProductSearchCursorResDto products = productService.getSearchProductsByCursor(cursor, query,
+                sorter, minPrice, maxPrice, star);
+        log.info("데이터 조회 완료");
+        return new ResponseEntity<>(CMResDto.successDataRes(products), HttpStatus.OK);
+    }
+
+    // 검색어 자동완성 api
+    @GetMapping("/suggest")
+    public ResponseEntity<CMResDto<List<ProductResDto.ProductSuggestResDto>>> getSuggestions(@RequestParam(required = true, value = "q") String query,
+            @RequestParam(required = false, value = "limit", defaultValue = "10") int limit) {
+        List<ProductResDto.ProductSuggestResDto> suggestions = productService.getSuggestions(query, limit);
+        return new ResponseEntity<>(CMResDto.successDataRes(suggestions), HttpStatus.OK);
+    }
+
     // 최신 상품 조회
     @GetMapping("/new-products")
-    public ResponseEntity<CMResDto<List<Object>>> getLatestProducts() {
-        List<ProductResDto.NewProductResDto> latestProducts = productService.findNewProducts();
+    public ResponseEntity<CMResDto<List<ProductResDto.ProductCardResDto>>> getLatestProducts() {
+        List<ProductResDto.ProductCardResDto> latestProducts = productService.findNewProducts();
         // response format mapping
-        List<Object> responseData = productService.mapToResponseFormat(latestProducts, 16);
+        List<ProductResDto.ProductCardResDto> responseData = productService.mapToResponseFormat(latestProducts, 16);
         log.info("데이터 조회 완료");
         return new ResponseEntity<>(CMResDto.successDataRes(responseData), HttpStatus.OK);
     }
 
     // 전체 카테고리 할인율 높은 순으로 상품 limit개 불러오기
     @GetMapping("/high-discount-rate")
-    public ResponseEntity<CMResDto<List<Object>>> getHighDiscountRateProducts() {
+    public ResponseEntity<CMResDto<List<ProductResDto.ProductCardResDto>>> getHighDiscountRateProducts() {
         int limit = 16;
-        List<ProductResDto.NewProductResDto> dtos = productService.findHighDiscountRateProducts(limit);
+        List<ProductResDto.ProductCardResDto> dtos = productService.findHighDiscountRateProducts(limit);
     
         // response format mapping
-        List<Object> responseData = productService.mapToResponseFormat(dtos, limit);
+        List<ProductResDto.ProductCardResDto> responseData = productService.mapToResponseFormat(dtos, limit);
         log.info("전체 카테고리 할인율 높은 순으로 상품 " + limit + "개 조회");
-        return new ResponseEntity<>(CMResDto.<List<Object>>successDataRes(responseData), HttpStatus.OK);
+        return new ResponseEntity<>(CMResDto.successDataRes(responseData), HttpStatus.OK);
     }
 
     // 카테고리 별 할인율 높은 순으로 상품 limit개 불러오기
     @GetMapping("/high-discount-rate/{cateId}")
-    public ResponseEntity<CMResDto<List<Object>>> getHighDiscountRateProducts(@PathVariable Long cateId) {
+    public ResponseEntity<CMResDto<List<ProductResDto.ProductCardResDto>>> getHighDiscountRateProducts(@PathVariable Long cateId) {
         int limit = 16;
-        List<ProductResDto.NewProductResDto> dtos = productService.findHighDiscountRateProducts(cateId, limit);
+        List<ProductResDto.ProductCardResDto> dtos = productService.findHighDiscountRateProducts(cateId, limit);
 
         // response format mapping
-        List<Object> responseData = productService.mapToResponseFormat(dtos, limit);
+        List<ProductResDto.ProductCardResDto> responseData = productService.mapToResponseFormat(dtos, limit);
         log.info("카테고리별 할인율 높은 순으로 상품 " + limit + "개 조회");
         return new ResponseEntity<>(CMResDto.successDataRes(responseData), HttpStatus.OK);
     }
@@ -136,6 +175,16 @@ public class ProductController {
         return new ResponseEntity<>(CMResDto.successDataRes(qnaList), HttpStatus.OK);
     }
 
+    // 상품 별 Q&A 리스트 커서 조회 (첫 페이지는 after= 로 요청)
+    @GetMapping(value = "/{productId}/qnaList", params = "after")
+    public ResponseEntity<CMResDto<CursorResDto<QnaResDto.QnaProductIdListResDto>>> getQnasByProductIdByCursor(@PathVariable Long productId,
+            @RequestParam(value = "after") String after) {
+        CursorResDto<QnaResDto.QnaProductIdListResDto> qnaList = productService.findQnasByProductIdByCursor(productId, after);
+
+        log.info("데이터 조회 완료");
+        return new ResponseEntity<>(CMResDto.successDataRes(qnaList), HttpStatus.OK);
+    }
+
     // Q&A 작성 API
     @PostMapping("/{productId}/qna")
     public ResponseEntity<CMResDto<QnaResDto.QnaWriteResponseDto>> saveQnaAboutProduct(@PathVariable Long productId,
@@ -159,6 +208,15 @@ public class ProductController {
         return new ResponseEntity<>(CMResDto.successDataRes(res), HttpStatus.OK);
     }
 
+    // 상품별 리뷰 목록 커서 조회 (첫 페이지는 after= 로 요청)
+    @GetMapping(value = "/{productId}/reviews", params = "after")
+    public ResponseEntity<CMResDto<ProductResDto.ProductReviewCursorResDto>> getProductReviewsByCursor(@PathVariable Long productId,
+                                               @RequestParam(value = "after") String after) {
+
+        ProductResDto.ProductReviewCursorResDto res = productService.getReviewListByCursor(productId, after);
+        return new ResponseEntity<>(CMResDto.successDataRes(res), HttpStatus.OK);
+    }
+
     // 마이페이지 리뷰 작성
     @PostMapping("{productId}/review")
     public ResponseEntity<CMResDto<String>> saveReview(@PathVariable Long productId, @Valid @RequestBody ReviewReqDto reviewReqDto) {
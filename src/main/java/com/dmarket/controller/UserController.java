@@ -91,6 +91,18 @@ public class UserController {
         return new ResponseEntity<>(CMResDto.successDataRes(isWishResDto), HttpStatus.OK);
     }
 
+    // 여러 상품의 찜 여부 한 번에 확인 api (상품 목록 하트 표시용)
+    @GetMapping(value = "/{userId}/wish", params = "productIds")
+    public ResponseEntity<CMResDto<WishResDto.WishCheckResDto>> checkIsWishes(@PathVariable Long userId,
+                                                                              @RequestParam(name = "productIds") List<Long> productIds,
+                                                                              HttpServletRequest request) {
+        if (checkAuthorization(userId, request) != null) {
+            return forbiddenRes();
+        }
+        WishResDto.WishCheckResDto res = userService.checkIsWishes(userId, productIds);
+        return new ResponseEntity<>(CMResDto.successDataRes(res), HttpStatus.OK);
+    }
+
     // 위시리스트 조회
     @GetMapping("/{userId}/wish")
     public ResponseEntity<?> getWishlistByUserId(@PathVariable(name = "userId") Long userId,
@@ -118,6 +130,17 @@ public class UserController {
         return new ResponseEntity<>(CMResDto.successDataRes(cartCount), HttpStatus.OK);
     }
 
+    // 헤더 뱃지 (장바구니, 위시리스트, 안 읽은 알림 개수) 조회
+    @GetMapping("/{userId}/badges")
+    public ResponseEntity<?> getBadges(@PathVariable(name = "userId") Long userId, HttpServletRequest request) {
+        ResponseEntity<CMResDto<String>> authorization = checkAuthorization(userId, request);
+        if(authorization != null){
+            return authorization;
+        }
+        UserResDto.UserBadgeResDto badges = userService.getBadges(userId);
+        return new ResponseEntity<>(CMResDto.successDataRes(badges), HttpStatus.OK);
+    }
+
     // 마이페이지 서브헤더 사용자 정보 및 마일리지 조회
     @GetMapping("/{userId}/mypage/mileage")
     public ResponseEntity<?> getSubHeader(@PathVariable(name = "userId") Long userId, HttpServletRequest request) {
@@ -132,17 +155,14 @@ public class UserController {
 
     // 위시리스트 삭제
     @DeleteMapping("/{userId}/wish/{wishlistIds}")
-    public ResponseEntity<CMResDto<String>> deleteWishlistId(@PathVariable(name = "userId") Long userId,
+    public ResponseEntity<CMResDto<WishResDto.WishDeleteResDto>> deleteWishlistId(@PathVariable(name = "userId") Long userId,
                                               @PathVariable(name = "wishlistIds") List<Long> wishlistIds, HttpServletRequest request) {
-        ResponseEntity<CMResDto<String>> authorization = checkAuthorization(userId, request);
-        if(authorization != null){
-            return authorization;
+        if (checkAuthorization(userId, request) != null) {
+            return forbiddenRes();
         }
-        for (Long wishlistId : wishlistIds) {
-            userService.deleteWishlistById(wishlistId);
-        }
-        log.info("데이터 삭제 완료");
-        return new ResponseEntity<>(CMResDto.successNoRes(), HttpStatus.OK);
+        WishResDto.WishDeleteResDto res = userService.deleteWishlistsByIds(userId, wishlistIds);
+        log.info("데이터 삭제 완료: {}건", res.getDeletedCount());
+        return new ResponseEntity<>(CMResDto.successDataRes(res), HttpStatus.OK);
     }
 
     // 사용자 정보 조회
@@ -215,19 +235,16 @@ public class UserController {
 
     // 장바구니 삭제
     @DeleteMapping("/{userId}/cart/{cartIds}")
-    public ResponseEntity<CMResDto<String>> deleteCart(@PathVariable Long userId,
+    public ResponseEntity<CMResDto<CartResDto.CartDeleteResDto>> deleteCart(@PathVariable Long userId,
                                         @PathVariable(name = "cartIds") List<Long> cartIds, HttpServletRequest request) {
 
-        ResponseEntity<CMResDto<String>> authorization = checkAuthorization(userId, request);
-        if(authorization != null){
-            return authorization;
+        if (checkAuthorization(userId, request) != null) {
+            return forbiddenRes();
         }
 
-        for (Long cartId : cartIds) {
-            userService.deleteCartByCartId(cartId);
-            log.info("장바구니 삭제 완료: cartId={}", cartId);
-        }
-        return new ResponseEntity<>(CMResDto.successNoRes(), HttpStatus.OK);
+        CartResDto.CartDeleteResDto res = userService.deleteCartsByCartIds(userId, cartIds);
+        log.info("장바구니 삭제 완료: {}건", res.getDeletedCount());
+        return new ResponseEntity<>(CMResDto.successDataRes(res), HttpStatus.OK);
     }
 
     // 작성한 Qna 조회
@@ -394,4 +411,12 @@ public class UserController {
         return null; // 인증 및 권한 검사가 성공한 경우
     }
 
+    // 권한 없음 응답 (응답 데이터 타입을 유지하는 api용)
+    private <T> ResponseEntity<CMResDto<T>> forbiddenRes() {
+        CMResDto<T> res = CMResDto.<T>builder()
+                .code(ErrorCode.FORBIDDEN.getCode()).msg(ErrorCode.FORBIDDEN.getMsg())
+                .build();
+        return new ResponseEntity<>(res, HttpStatus.FORBIDDEN);
+    }
+
 }
\ No newline at end of file
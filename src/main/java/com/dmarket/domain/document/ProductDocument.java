@@ -1,5 +1,6 @@
 package com.dmarket.domain.document;
 
+import com.dmarket.elastic.ESUtil;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -15,7 +16,7 @@ import java.util.List;
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
-@Document(indexName = "new-product")
+@Document(indexName = ESUtil.PRODUCT_INDEX)
 @JsonIgnoreProperties(ignoreUnknown=true)
 public class ProductDocument {
 
@@ -44,4 +45,6 @@ public class ProductDocument {
     private ImgDocument imgs_enriched;
     @Field(name = "review_enriched", type = FieldType.Object)
     private List<ReviewDocument> review_enriched;
+    @Field(name = "review_count", type = FieldType.Integer)
+    private Integer review_count;
 }
\ No newline at end of file
@@ -15,7 +15,9 @@ import java.time.temporal.ChronoUnit;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OrderDetail {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY는 insert 배치가 불가능하여 시퀀스 사용 (50개 단위로 미리 할당)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_detail_seq_generator")
+    @SequenceGenerator(name = "order_detail_seq_generator", sequenceName = "order_detail_seq", allocationSize = 50)
     private Long orderDetailId;
 
     private Long orderId;
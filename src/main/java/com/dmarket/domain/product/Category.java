@@ -37,5 +37,7 @@ public class Category {
 
         public static final String CATEGORY_LIST = "categoryList";
         public static final String PRODUCT_LIST = "productList";
+        public static final String PRODUCT_DETAIL = "productDetail";
+        public static final String CATEGORY_PRODUCT_COUNT = "categoryProductCount";
     }
 }
@@ -45,6 +45,13 @@ public class Product {
     @Column(nullable = true)
     private LocalDateTime productCreatedDate;
 
+    // 리뷰 수, 리뷰 별점 합계 (리뷰 작성/삭제 시 UPDATE 한 번으로 증감)
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long productReviewCount;
+
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long productRatingSum;
+
 
     public void updateRating(Float newRating) {
         this.productRating = newRating;
@@ -70,6 +77,8 @@ public class Product {
         this.productDiscountRate = productDiscountRate;
         this.productDescription = productDescription;
         this.productRating = (float) 0;
+        this.productReviewCount = 0L;
+        this.productRatingSum = 0L;
         this.productCreatedDate = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
\ No newline at end of file
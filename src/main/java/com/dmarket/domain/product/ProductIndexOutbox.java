@@ -0,0 +1,39 @@
+package com.dmarket.domain.product;
+
+import com.dmarket.constant.ProductChangeType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+// 검색 인덱스에 아직 반영되지 않은 상품 변경 내역
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductIndexOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long outboxId;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ProductChangeType changeType;
+
+    @Column(nullable = false)
+    private LocalDateTime outboxCreatedDate;
+
+    @Builder
+    public ProductIndexOutbox(Long productId, ProductChangeType changeType) {
+        this.productId = productId;
+        this.changeType = changeType;
+        this.outboxCreatedDate = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
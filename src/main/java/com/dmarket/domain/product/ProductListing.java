@@ -0,0 +1,88 @@
+package com.dmarket.domain.product;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// 카테고리 상품 목록 조회용 읽기 모델 (상품/리뷰/이미지/옵션 변경 시 갱신)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_listing_category_created", columnList = "category_id, product_created_date"),
+        @Index(name = "idx_listing_category_rating", columnList = "category_id, product_rating"),
+        @Index(name = "idx_listing_category_review", columnList = "category_id, review_cnt")
+})
+public class ProductListing {
+
+    @Id
+    private Long productId;
+
+    private Long categoryId;
+
+    @Column(nullable = false)
+    private String productBrand;
+
+    @Column(nullable = false)
+    private String productName;
+
+    private String productImg;
+
+    @Column(nullable = false)
+    private Integer productSalePrice;
+
+    private Integer productDiscountRate;
+
+    private Float productRating;
+
+    @Column(nullable = false)
+    private Long reviewCnt;
+
+    private LocalDateTime productCreatedDate;
+
+    // 옵션이 하나라도 있는 상품만 목록에 노출
+    @Column(nullable = false)
+    private Boolean hasOption;
+
+    // 재고가 남은 옵션이 있는지 여부
+    @Column(nullable = false)
+    private Boolean inStock;
+
+    @Builder
+    public ProductListing(Product product, String productImg, Long reviewCnt, Boolean hasOption, Boolean inStock) {
+        this.productId = product.getProductId();
+        this.categoryId = product.getCategoryId();
+        this.productBrand = product.getProductBrand();
+        this.productName = product.getProductName();
+        this.productImg = productImg;
+        this.productSalePrice = product.getProductSalePrice();
+        this.productDiscountRate = product.getProductDiscountRate();
+        // 평점 정렬 커서가 null 없이 비교되도록 평점 없는 상품은 0으로 저장
+        this.productRating = product.getProductRating() == null ? 0F : product.getProductRating();
+        this.reviewCnt = reviewCnt;
+        this.productCreatedDate = product.getProductCreatedDate();
+        this.hasOption = hasOption;
+        this.inStock = inStock;
+    }
+
+    // 다시 계산한 행과 내용이 같은지 (읽기 모델 정합성 점검용)
+    public boolean isSameAs(ProductListing other) {
+        return Objects.equals(productId, other.productId)
+                && Objects.equals(categoryId, other.categoryId)
+                && Objects.equals(productBrand, other.productBrand)
+                && Objects.equals(productName, other.productName)
+                && Objects.equals(productImg, other.productImg)
+                && Objects.equals(productSalePrice, other.productSalePrice)
+                && Objects.equals(productDiscountRate, other.productDiscountRate)
+                && Objects.equals(productRating, other.productRating)
+                && Objects.equals(reviewCnt, other.reviewCnt)
+                && Objects.equals(productCreatedDate, other.productCreatedDate)
+                && Objects.equals(hasOption, other.hasOption)
+                && Objects.equals(inStock, other.inStock);
+    }
+}
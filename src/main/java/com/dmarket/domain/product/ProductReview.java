@@ -12,7 +12,11 @@ import java.time.temporal.ChronoUnit;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(indexes = @Index(name = "idx_product_id", columnList = "product_id"))
+// 상품별 리뷰 커서 조회용 (product_id, review_created_date) 인덱스, 보조 인덱스에 기본 키가 붙으므로 review_id까지 정렬됨
+@Table(indexes = {
+        @Index(name = "idx_product_id", columnList = "product_id"),
+        @Index(name = "idx_review_product_created", columnList = "product_id, review_created_date")
+})
 public class ProductReview {
 
     @Id
@@ -12,6 +12,8 @@ import java.time.temporal.ChronoUnit;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 상품별 Q&A 커서 조회용 (보조 인덱스에 기본 키가 붙으므로 qna_id까지 정렬됨)
+@Table(indexes = @Index(name = "idx_qna_product_created", columnList = "product_id, qna_created_date"))
 public class Qna {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_cart_user_option", columnNames = {"user_id", "option_id"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Cart {
@@ -30,4 +31,8 @@ public class Cart {
     public void updateCartCount(Integer productCount){
         this.cartCount += productCount;
     }
+
+    public void changeCartCount(Integer cartCount){
+        this.cartCount = cartCount;
+    }
 }
@@ -1,9 +1,6 @@
 package com.dmarket.dto.common;
 
-import com.dmarket.domain.product.Product;
-import com.dmarket.domain.product.ProductImgs;
-import com.dmarket.domain.product.ProductOption;
-import com.dmarket.domain.user.Cart;
+import com.dmarket.dto.response.ProductResDto;
 import lombok.Data;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -25,16 +22,17 @@ public class CartCommonDto {
         private Integer productCount;
         private Integer productTotalSalePrice;
 
-        public CartListDto(Cart cart, Product product, ProductOption productOption, ProductImgs productImgs) {
-            this.cartId = cart.getCartId();
+        // 장바구니 저장소(Redis)의 항목을 상품 상세 캐시로 채움 (장바구니 번호는 옵션 번호)
+        public CartListDto(ProductResDto.ProductInfoResDto product, ProductCommonDto.ProductOptionDto productOption, Integer cartCount) {
+            this.cartId = productOption.getOptionId();
             this.productId = product.getProductId();
             this.productBrand = product.getProductBrand();
             this.productName = product.getProductName();
-            this.productImg = productImgs.getImgAddress();
+            this.productImg = product.getImgList() == null || product.getImgList().isEmpty() ? null : product.getImgList().get(0);
             this.optionId = productOption.getOptionId();
             this.productOption = productOption.getOptionValue();
-            this.productCount = cart.getCartCount();
-            this.productTotalSalePrice = cart.getCartCount() * product.getProductSalePrice();
+            this.productCount = cartCount;
+            this.productTotalSalePrice = cartCount * product.getProductSalePrice();
         }
 
         // getters and setters
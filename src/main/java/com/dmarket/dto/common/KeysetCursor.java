@@ -0,0 +1,74 @@
+package com.dmarket.dto.common;
+
+import com.dmarket.exception.BadRequestException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static com.dmarket.exception.ErrorCode.INVALID_PAGE_CURSOR;
+
+/**
+ * 키셋 페이지 커서
+ * - 이전 페이지 마지막 항목의 (정렬 값, 번호)를 "정렬 값,번호" 문자열로 만들어 URL-safe Base64로 인코딩
+ * - 빈 커서는 첫 페이지
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeysetCursor {
+
+    private static final char SEPARATOR = ',';
+
+    private final String sortValue;
+    private final Long id;
+
+    public static String encode(Object sortValue, Long id) {
+        String raw = String.valueOf(sortValue) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 커서면 null (첫 페이지)
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new BadRequestException(INVALID_PAGE_CURSOR);
+            }
+            return new KeysetCursor(raw.substring(0, separator), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(INVALID_PAGE_CURSOR);
+        }
+    }
+
+    public LocalDateTime getDateTimeValue() {
+        try {
+            return LocalDateTime.parse(sortValue);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException(INVALID_PAGE_CURSOR);
+        }
+    }
+
+    public Long getLongValue() {
+        try {
+            return Long.parseLong(sortValue);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(INVALID_PAGE_CURSOR);
+        }
+    }
+
+    public Double getDoubleValue() {
+        try {
+            return Double.parseDouble(sortValue);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(INVALID_PAGE_CURSOR);
+        }
+    }
+}
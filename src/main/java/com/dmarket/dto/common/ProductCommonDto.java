@@ -6,6 +6,7 @@ import com.dmarket.domain.product.Category;
 import com.dmarket.domain.product.Product;
 import com.dmarket.domain.product.ProductImgs;
 import com.dmarket.domain.product.ProductOption;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -30,9 +31,12 @@ public class ProductCommonDto {
         private Integer productCount;   // 주문 수량
         private Integer productTotalSalePrice;  // 개별상품 종합판매가 orderdetailsaleprice
         private OrderDetailState orderStatus;   // 주문 상태
+        @JsonIgnore
+        private Long orderId;           // 여러 주문의 상세를 한 번에 조회할 때 주문별로 묶는 용도
 
         public ProductDetailListDto(OrderDetail orderDetail, Product product, ProductOption productOption, ProductImgs productImgs) {
             this.detailId = orderDetail.getOrderDetailId();
+            this.orderId = orderDetail.getOrderId();
             this.productId = product.getProductId();
             this.productBrand = product.getProductBrand();
             this.productName = product.getProductName();
@@ -132,4 +136,13 @@ public class ProductCommonDto {
         private Float productRating;
         private int productReviewCount;
     }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProductSuggestDto {
+        private Long productId;
+        private String productBrand;
+        private String productName;
+    }
 }
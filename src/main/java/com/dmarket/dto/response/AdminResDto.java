@@ -56,4 +56,19 @@ public class AdminResDto {
             this.userJoinDate = userJoinDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
         }
     }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReindexStatusResDto {
+        private String state;           // IDLE, RUNNING, COMPLETED, FAILED
+        private String targetIndex;
+        private Long totalCount;
+        private Long indexedCount;
+        private Long failedCount;
+        private Double docsPerSecond;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+        private String errorMessage;
+    }
 }
@@ -1,7 +1,9 @@
 package com.dmarket.dto.response;
 
 import com.dmarket.dto.common.CartCommonDto;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
@@ -35,4 +37,10 @@ public class CartResDto {
             this.cartCount = cartCount.intValue();
         }
     }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CartDeleteResDto {
+        private int deletedCount; // 이미 삭제됐거나 다른 사용자의 장바구니 번호는 제외
+    }
 }
@@ -0,0 +1,22 @@
+package com.dmarket.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 커서 기반 목록 응답 (count 쿼리 없이 다음 페이지 존재 여부만 확인)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorResDto<T> {
+
+    private String nextCursor; // 마지막 페이지면 null
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long approximateTotal; // 요청한 경우만 (캐시된 근사값)
+
+    private List<T> content;
+}
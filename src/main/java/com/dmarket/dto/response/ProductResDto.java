@@ -2,8 +2,16 @@ package com.dmarket.dto.response;
 
 import com.dmarket.domain.product.Product;
 import com.dmarket.dto.common.ProductCommonDto;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import lombok.*;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public class ProductResDto {
@@ -20,6 +28,15 @@ public class ProductResDto {
         private Integer productDiscountRate;
         private Float productRating;
         private Long productReviewCount;
+        // 커서 생성용 (응답에는 포함하지 않음)
+        @JsonIgnore
+        private LocalDateTime productCreatedDate;
+
+        public ProductListResDto(Long productId, String productBrand, String productName, String productImg,
+                                 Integer productSalePrice, Integer productDiscountRate, Float productRating, Long productReviewCount) {
+            this(productId, productBrand, productName, productImg, productSalePrice, productDiscountRate,
+                    productRating, productReviewCount, null);
+        }
     }
 
     @Data
@@ -40,6 +57,27 @@ public class ProductResDto {
 
     @Data
     @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProductSuggestResDto {
+        private String keyword;
+        private String type;    // name, brand
+        private Long productId; // 상품명인 경우만
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProductSearchCursorResDto {
+        private int totalPages;
+        private int totalCount;
+        private String nextCursor; // 마지막 페이지면 null
+        private List<ProductCommonDto.ProductSearchListDto> productList;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
     public static class ProductInfoResDto {
         private Long productId;
         private String productCategory;
@@ -143,6 +181,24 @@ public class ProductResDto {
 
     }
 
+    @Data
+    @NoArgsConstructor
+    public static class ProductReviewCursorResDto {
+        private Long productId;
+        private Float productRating;
+        private Long productReviewCount;
+        private String nextCursor; // 마지막 페이지면 null
+        private List<ProductCommonDto.ProductReviewDto> reviewList;
+
+        public ProductReviewCursorResDto(ProductCommonDto.ProductDto product, String nextCursor, List<ProductCommonDto.ProductReviewDto> reviewList) {
+            this.productId = product.getProductId();
+            this.productRating = product.getProductRating();
+            this.productReviewCount = product.getProductReviewCount();
+            this.nextCursor = nextCursor;
+            this.reviewList = reviewList;
+        }
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -157,6 +213,62 @@ public class ProductResDto {
         private Integer productDiscountRate;
     }
 
+    /**
+     * 홈 화면 레일 상품 카드 (신상품, 할인율 높은 상품)
+     * - 가격 필드는 기존 응답 형식과 같게 문자열로 내려줌
+     * - 필드를 직접 쓰므로 응답 시 리플렉션을 타지 않고, 미리 직렬화한 JSON이 있으면 그 바이트를 그대로 씀
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ProductCardResDto extends JsonSerializable.Base {
+        private final Long productId;
+        private final String productBrand;
+        private final String productName;
+        private final String productImg;
+        private final String productPrice;
+        private final String productDiscountRate;
+        private final String productSalePrice;
+        // 미리 직렬화한 JSON (없으면 필드로 직렬화)
+        @Getter(AccessLevel.NONE)
+        private final SerializableString json;
+
+        public static ProductCardResDto of(Product product, String productImg) {
+            return new ProductCardResDto(product.getProductId(), product.getProductBrand(), product.getProductName(), productImg,
+                    String.valueOf(product.getProductPrice()),
+                    String.valueOf(product.getProductDiscountRate()),
+                    String.valueOf(product.getProductSalePrice()),
+                    null);
+        }
+
+        // 같은 카드에 미리 직렬화한 JSON을 붙인 사본
+        public ProductCardResDto withJson(SerializableString json) {
+            return new ProductCardResDto(productId, productBrand, productName, productImg,
+                    productPrice, productDiscountRate, productSalePrice, json);
+        }
+
+        @Override
+        public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            if (json != null) {
+                gen.writeRawValue(json);
+                return;
+            }
+            gen.writeStartObject();
+            gen.writeNumberField("productId", productId);
+            gen.writeStringField("productBrand", productBrand);
+            gen.writeStringField("productName", productName);
+            gen.writeStringField("productImg", productImg);
+            gen.writeStringField("productPrice", productPrice);
+            gen.writeStringField("productDiscountRate", productDiscountRate);
+            gen.writeStringField("productSalePrice", productSalePrice);
+            gen.writeEndObject();
+        }
+
+        @Override
+        public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+            serialize(gen, serializers);
+        }
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -12,6 +12,16 @@ import java.util.List;
 
 public class UserResDto {
 
+    // 헤더 뱃지
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UserBadgeResDto {
+        private Integer cartCount;
+        private Long wishCount;
+        private Long unreadNotificationCount;
+    }
+
     @Data
     @Getter
     @NoArgsConstructor
@@ -8,6 +8,8 @@ import lombok.NoArgsConstructor;
 import com.dmarket.dto.common.WishlistItemDto;
 import org.springframework.data.domain.Page;
 
+import java.util.Map;
+
 public class WishResDto{
 
     @Getter
@@ -33,4 +35,16 @@ public class WishResDto{
     public static class IsWishResDto {
         private Boolean isWish;
     }
+
+    @Getter
+    @AllArgsConstructor
+    public static class WishCheckResDto {
+        private Map<Long, Boolean> isWish; // 상품 번호 -> 찜 여부
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class WishDeleteResDto {
+        private int deletedCount; // 이미 삭제됐거나 다른 사용자의 위시리스트 번호는 제외
+    }
 }
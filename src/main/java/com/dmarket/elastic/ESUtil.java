@@ -10,6 +10,13 @@ import java.util.List;
 import java.util.function.Supplier;
 
 public class ESUtil {
+    // 상품 검색 인덱스 alias (검색/색인은 항상 alias로 요청)
+    public static final String PRODUCT_INDEX = "product";
+    // alias 도입 전 인덱스
+    public static final String LEGACY_PRODUCT_INDEX = "new-product";
+    // 재색인 시 생성하는 버전별 인덱스 접두사
+    public static final String PRODUCT_INDEX_PREFIX = "product-v";
+
     public static Supplier<Query> supplierQueryForMultiMatch(String key, List<String> fields){
         return () ->Query.of(q->q.multiMatch(multiMatchQuery(key, fields)));
     }
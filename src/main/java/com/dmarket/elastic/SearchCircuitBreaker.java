@@ -0,0 +1,81 @@
+package com.dmarket.elastic;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Elasticsearch 검색 호출 차단기
+ * - CLOSED: 정상 호출, 연속 실패가 기준을 넘으면 OPEN
+ * - OPEN: 호출하지 않고 바로 대체 경로 사용, 대기 시간이 지나면 HALF_OPEN
+ * - HALF_OPEN: 한 요청만 시험 호출, 성공하면 CLOSED / 실패하면 다시 OPEN / 잘못된 요청이면 시험 호출 반납
+ */
+@Slf4j
+@Component
+public class SearchCircuitBreaker {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong();
+
+    public SearchCircuitBreaker(MeterRegistry meterRegistry,
+                                @Value("${elasticsearch.breaker.failure-threshold:5}") int failureThreshold,
+                                @Value("${elasticsearch.breaker.open-seconds:30}") long openSeconds) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openSeconds * 1000;
+        // 0: CLOSED, 1: HALF_OPEN, 2: OPEN
+        Gauge.builder("search.circuit.state", state, s -> s.get().ordinal())
+                .description("Elasticsearch 검색 차단기 상태 (0: CLOSED, 1: HALF_OPEN, 2: OPEN)")
+                .register(meterRegistry);
+    }
+
+    // 검색 호출 가능 여부
+    public boolean allowRequest() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && System.currentTimeMillis() - openedAt.get() >= openMillis) {
+            // 대기 시간이 지나면 한 요청만 시험 호출
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        if (state.getAndSet(State.CLOSED) != State.CLOSED) {
+            log.info("[SearchCircuitBreaker] 검색 차단 해제");
+        }
+    }
+
+    public void recordFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (state.get() == State.HALF_OPEN || failures >= failureThreshold) {
+            openedAt.set(System.currentTimeMillis());
+            if (state.getAndSet(State.OPEN) != State.OPEN) {
+                log.warn("[SearchCircuitBreaker] 검색 차단: 연속 실패 {}회", failures);
+            }
+        }
+    }
+
+    // 요청 자체가 잘못되어 Elasticsearch 상태를 판단할 수 없는 경우 시험 호출만 반납 (다음 요청이 다시 시험 호출)
+    public void releaseTrial() {
+        state.compareAndSet(State.HALF_OPEN, State.OPEN);
+    }
+
+    public State getState() {
+        return state.get();
+    }
+}
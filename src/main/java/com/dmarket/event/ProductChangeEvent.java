@@ -0,0 +1,19 @@
+package com.dmarket.event;
+
+import com.dmarket.constant.ProductChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 상품 정보가 변경되었을 때 발행 (검색어 자동완성, 캐시 등 파생 데이터 갱신용)
+@Getter
+@AllArgsConstructor
+public class ProductChangeEvent {
+
+    private Long productId;
+
+    private ProductChangeType type;
+
+    public static ProductChangeEvent of(Long productId, ProductChangeType type) {
+        return new ProductChangeEvent(productId, type);
+    }
+}
@@ -13,6 +13,8 @@ public enum ErrorCode {
     INVALID_RATING_PARAM(400, "잘못된 리뷰 평점 필터"),
     INVALID_STATE_PARAM(400, "잘못된 상태 값"),
     INVALID_SEARCH_VALUE(400, "검색 값이 비어있음"),
+    INVALID_SEARCH_CURSOR(400, "잘못되었거나 만료된 검색 커서"),
+    INVALID_PAGE_CURSOR(400, "잘못된 페이지 커서"),
     INVALID_EMAIL_CODE(400, "인증 코드가 일치하지 않음"),
     INVALID_INQUIRY_TYPE(400, "잘못된 문의 타입"),
 
@@ -27,6 +29,7 @@ public enum ErrorCode {
     NOT_VALID_PATH_VALUE(404, "잘못된 Path Variable"),
     USER_NOT_FOUND(404, "존재하지 않는 사용자"),
     PRODUCT_NOT_FOUND(404, "존재하지 않는 상품"),
+    OPTION_NOT_FOUND(404, "존재하지 않는 상품 옵션"),
     CATEGORY_NOT_FOUND(404, "존재하지 않는 카테고리"),
     REVIEW_NOT_FOUND(404, "존재하지 않는 리뷰"),
     QNA_NOT_FOUND(404, "존재하지 않는 상품 QnA"),
@@ -47,6 +50,8 @@ public enum ErrorCode {
     ALREADY_SAVED_WISH(409, "이미 위시리스트에 등록된 상품"),
     ALREADY_SAVED_REQUEST(409, "이미 존재하는 요청 내역"),
     ALREADY_SAVED_REPLY(409, "이미 답변된 문의"),
+    REINDEX_ALREADY_RUNNING(409, "이미 진행 중인 재색인 작업"),
+    PRICE_CHANGED(409, "상품 가격이 변경되었습니다. 주문 금액을 다시 확인해주세요."),
 
     INTERNAL_SERVER_ERROR(500, "서버 내부 오류");
 
@@ -1,5 +1,6 @@
 package com.dmarket.notification;
 
+import com.dmarket.service.BadgeCounterService;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +19,7 @@ import java.util.Map;
 public class NotificationService {
     private final SseEmitters sseEmitters;
     private final NotificationRepository notificationRepository;
+    private final BadgeCounterService badgeCounterService;
     // timeout 시간 설정
     private static final long TIMEOUT = 60 * 1000L;
 
@@ -80,6 +82,7 @@ public class NotificationService {
     @Transactional
     public void send(SendNotificationEvent noti) {
         Notification notification = notificationRepository.save(Notification.create(noti));
+        badgeCounterService.adjustAfterCommit(noti.getReceiver(), BadgeCounterService.Badge.UNREAD_NOTIFICATION, 1);
         log.info("저장됨");
 
         String receiverId = noti.getReceiver() + "_";
@@ -107,6 +110,9 @@ public class NotificationService {
     public void readNotification(NotificationReqDto notificationReqDto) {
         Notification notification = notificationRepository.findById(notificationReqDto.getNotiId())
                 .orElseThrow(()->new IllegalArgumentException("존재하지 않는 알림"));
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            badgeCounterService.adjustAfterCommit(notification.getReceiver(), BadgeCounterService.Badge.UNREAD_NOTIFICATION, -1);
+        }
         notification.setIsRead();
     }
 
@@ -114,15 +120,18 @@ public class NotificationService {
     @Transactional
     public void readAllNotifications(Long userId) {
         notificationRepository.readAllNotification(userId);
+        badgeCounterService.evictAfterCommit(List.of(userId), BadgeCounterService.Badge.UNREAD_NOTIFICATION);
     }
 
+    // 안 읽은 알림 개수 (뱃지 카운터)
     public Long getUnreadCount(Long userId) {
-        return notificationRepository.countByReceiverAndIsRead(userId, false);
+        return badgeCounterService.getUnreadNotificationCount(userId);
     }
 
     // 알림 전체 삭제
     @Transactional
     public void deleteAllNotifications(Long userId) {
         notificationRepository.deleteAllByReceiver(userId);
+        badgeCounterService.evictAfterCommit(List.of(userId), BadgeCounterService.Badge.UNREAD_NOTIFICATION);
     }
 }
\ No newline at end of file
@@ -66,6 +66,16 @@ public interface OrderDetailRepository extends JpaRepository<OrderDetail, Long>
             "where od.orderId = :orderId and pi.imgId = (select min(pi2.imgId) from ProductImgs pi2 where pi2.productId = od.productId)")
     List<ProductCommonDto.ProductDetailListDto> findOrderDetailByOrderId(@Param("orderId") Long orderId);
 
+    // 주문 내역 목록 조회 (페이지의 주문 상세를 한 번에 조회)
+    @Query(value = "select new com.dmarket.dto.common.ProductCommonDto$ProductDetailListDto(od, p, po, pi) " +
+            "from OrderDetail od " +
+            "join Product p on od.productId = p.productId " +
+            "join ProductOption po on od.optionId = po.optionId " +
+            "join ProductImgs pi on p.productId = pi.productId " +
+            "where od.orderId in :orderIds and pi.imgId = (select min(pi2.imgId) from ProductImgs pi2 where pi2.productId = od.productId) " +
+            "order by od.orderId, od.orderDetailId")
+    List<ProductCommonDto.ProductDetailListDto> findOrderDetailByOrderIdIn(@Param("orderIds") List<Long> orderIds);
+
     @Query(value = "select new com.dmarket.dto.common.ProductCommonDto$ProductDetailListDto(od, p, po, pi) " +
             "from OrderDetail od " +
             "join Product p on od.productId = p.productId " +
@@ -77,15 +87,12 @@ public interface OrderDetailRepository extends JpaRepository<OrderDetail, Long>
             "order by od.orderDetailId desc")
     List<ProductCommonDto.ProductDetailListDto> findPageableOrderDetailByOrderId(Pageable pageable,@Param("orderId") Long orderId);
 
-    // count (orderDetailState) by userId
-    @Query(value = "SELECT COUNT(*) " +
-            "FROM OrderDetail od " +
-            "JOIN Order o ON od.orderId = o.orderId " +
-            "JOIN User u ON o.userId = u.userId " +
-            "WHERE u.userId = :userId " +
-            "and od.orderDetailState = :orderDetailState " +
-            "GROUP BY od.orderDetailState")
-    Long countOrderDetailByUserIdAndOrderDetailState(@Param("userId") Long userId, @Param("orderDetailState") OrderDetailState orderDetailState);
+    // 사용자의 주문 상태별 주문 상세 개수 (상태, 개수)
+    @Query("select od.orderDetailState, count(od) from OrderDetail od " +
+            "join Order o on od.orderId = o.orderId " +
+            "where o.userId = :userId " +
+            "group by od.orderDetailState")
+    List<Object[]> countOrderDetailStatesByUserId(@Param("userId") Long userId);
 
     @Query("SELECT new com.dmarket.dto.response.OrderResDto$OrderCancelResDto(" +
             "   prod.productId, " +
@@ -128,12 +135,6 @@ public interface OrderDetailRepository extends JpaRepository<OrderDetail, Long>
             "where od.orderDetailId = :orderDetailId")
     Integer orderDetailTotalPrice(@Param("orderDetailId") Long orderDetailId);
 
-    // null 값 처리를 위해 메서드 수정
-    default Long safeCountOrderDetailByUserIdAndOrderDetailState(Long userId, OrderDetailState orderDetailState) {
-        Long count = countOrderDetailByUserIdAndOrderDetailState(userId, orderDetailState);
-        return count != null ? count : 0L;
-    }
-
 
     //배송 목록 조회
     @Query("SELECT new com.dmarket.dto.response.OrderListAdminResDto(od.orderId, o.orderDate, od.orderDetailId, " +
@@ -156,4 +157,14 @@ public interface OrderDetailRepository extends JpaRepository<OrderDetail, Long>
     @Query("SELECT od.orderId FROM OrderDetail od WHERE od.orderDetailId = :orderDetailId")
     Optional<Long> findOrderIdByOrderDetailId(@Param("orderDetailId") Long orderDetailId);
 
-}
\ No newline at end of file
+    // 추천 배치용: 주문 번호 구간의 (주문 번호, 상품 번호) 목록 (취소/반품 제외)
+    @Query("select distinct od.orderId, od.productId from OrderDetail od " +
+            "where od.orderId > :fromOrderId and od.orderId <= :toOrderId " +
+            "and od.orderDetailState not in (com.dmarket.constant.OrderDetailState.ORDER_CANCEL, " +
+            "com.dmarket.constant.OrderDetailState.RETURN_REQUEST, com.dmarket.constant.OrderDetailState.RETURN_COMPLETE) " +
+            "order by od.orderId")
+    List<Object[]> findOrderProductPairs(@Param("fromOrderId") Long fromOrderId, @Param("toOrderId") Long toOrderId);
+
+    @Query("select max(od.orderId) from OrderDetail od")
+    Long findMaxOrderId();
+}
@@ -0,0 +1,21 @@
+package com.dmarket.repository.product;
+
+import com.dmarket.domain.product.ProductIndexOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ProductIndexOutboxRepository extends JpaRepository<ProductIndexOutbox, Long> {
+
+    // 오래된 변경 내역부터 조회
+    List<ProductIndexOutbox> findAllByOrderByOutboxIdAsc(Pageable pageable);
+
+    // 가장 오래된 미반영 변경 시각
+    @Query("select min(o.outboxCreatedDate) from ProductIndexOutbox o")
+    LocalDateTime findOldestCreatedDate();
+}
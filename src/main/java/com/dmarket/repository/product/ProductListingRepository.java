@@ -0,0 +1,95 @@
+package com.dmarket.repository.product;
+
+import com.dmarket.domain.product.ProductListing;
+import com.dmarket.dto.response.ProductResDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ProductListingRepository extends JpaRepository<ProductListing, Long> {
+
+    // 커서 목록 공통: 조회 컬럼, 카테고리/가격/평점 조건
+    String LISTING_CURSOR_SELECT = "select new com.dmarket.dto.response.ProductResDto$ProductListResDto" +
+            "(l.productId, l.productBrand, l.productName, l.productImg, " +
+            "l.productSalePrice, l.productDiscountRate, l.productRating, l.reviewCnt, l.productCreatedDate) " +
+            "from ProductListing l ";
+    String LISTING_CURSOR_FILTER = "where l.categoryId = :cateId and l.hasOption = true " +
+            "and l.productSalePrice between :minPrice and :maxPrice " +
+            "and CASE WHEN (:star = 0) THEN " +
+            "(l.productRating >= :star or l.productRating IS NULL) " +
+            "ELSE l.productRating >= :star END ";
+
+    // 카테고리별 상품 목록 조회 (조인, 그룹핑 없이 읽기 모델 한 테이블에서 조회)
+    @Query(value = "select new com.dmarket.dto.response.ProductResDto$ProductListResDto" +
+            "(l.productId, l.productBrand, l.productName, l.productImg, " +
+            "l.productSalePrice, l.productDiscountRate, l.productRating, l.reviewCnt) " +
+            "from ProductListing l " +
+            "where l.categoryId = :cateId and l.hasOption = true " +
+            "and l.productSalePrice between :minPrice and :maxPrice " +
+            "and CASE WHEN (:star = 0) THEN " +
+            "(l.productRating >= :star or l.productRating IS NULL) " +
+            "ELSE l.productRating >= :star END",
+            countQuery = "select count(l) from ProductListing l " +
+                    "where l.categoryId = :cateId and l.hasOption = true " +
+                    "and l.productSalePrice between :minPrice and :maxPrice " +
+                    "and CASE WHEN (:star = 0) THEN " +
+                    "(l.productRating >= :star or l.productRating IS NULL) " +
+                    "ELSE l.productRating >= :star END")
+    Page<ProductResDto.ProductListResDto> findByCateId(Pageable pageable, Long cateId, Integer minPrice,
+                                                       Integer maxPrice, Float star);
+
+    // 연관 상품 대체 규칙: 같은 카테고리 최신 상품 (category_id, created 인덱스 사용)
+    @Query("select l.productId from ProductListing l " +
+            "where l.categoryId = :categoryId and l.hasOption = true " +
+            "order by l.productCreatedDate desc, l.productId desc")
+    List<Long> findLatestProductIdsByCategoryId(Long categoryId, Pageable pageable);
+
+    // 상품 번호 순 [상품 번호, 카테고리 번호] (연관 상품 카테고리 대체용)
+    @Query("select l.productId, l.categoryId from ProductListing l order by l.productId")
+    List<Object[]> findProductCategoryPairs();
+
+    // 카테고리별 상품 목록 커서 조회: (정렬 값, 상품 번호) 키셋, count 쿼리 없음 (lastId가 null이면 첫 페이지)
+    @Query(LISTING_CURSOR_SELECT + LISTING_CURSOR_FILTER +
+            "and (:lastId is null or l.productCreatedDate < :lastCreatedDate " +
+            "or (l.productCreatedDate = :lastCreatedDate and l.productId < :lastId)) " +
+            "order by l.productCreatedDate desc, l.productId desc")
+    Slice<ProductResDto.ProductListResDto> findByCateIdAfterCreatedDate(Pageable pageable, Long cateId, Integer minPrice, Integer maxPrice,
+                                                                       Float star, LocalDateTime lastCreatedDate, Long lastId);
+
+    @Query(LISTING_CURSOR_SELECT + LISTING_CURSOR_FILTER +
+            "and (:lastId is null or l.reviewCnt < :lastReviewCnt " +
+            "or (l.reviewCnt = :lastReviewCnt and l.productId < :lastId)) " +
+            "order by l.reviewCnt desc, l.productId desc")
+    Slice<ProductResDto.ProductListResDto> findByCateIdAfterReviewCnt(Pageable pageable, Long cateId, Integer minPrice, Integer maxPrice,
+                                                                     Float star, Long lastReviewCnt, Long lastId);
+
+    // float 컬럼은 소수 리터럴과 정확히 같지 않으므로 double로 바꿔 커서 값(float의 정확한 double 값)과 비교
+    @Query(LISTING_CURSOR_SELECT + LISTING_CURSOR_FILTER +
+            "and (:lastId is null or cast(l.productRating as Double) < :lastRating " +
+            "or (cast(l.productRating as Double) = :lastRating and l.productId < :lastId)) " +
+            "order by l.productRating desc, l.productId desc")
+    Slice<ProductResDto.ProductListResDto> findByCateIdAfterRating(Pageable pageable, Long cateId, Integer minPrice, Integer maxPrice,
+                                                                  Float star, Double lastRating, Long lastId);
+
+    // 평점 없이 만들어진 이전 행을 0으로 채움 (NULL은 평점 커서 비교에서 빠지므로)
+    @Modifying
+    @Query("update ProductListing l set l.productRating = 0 where l.productRating is null")
+    int fillMissingRatings();
+
+    // 상품이 삭제되었는데 남아 있는 행 제거
+    @Modifying
+    @Query("delete from ProductListing l where not exists (select p.productId from Product p where p.productId = l.productId)")
+    int deleteOrphans();
+
+    // 커서 목록의 전체 개수 (근사값으로 캐시해서 사용)
+    @Query("select count(l) from ProductListing l " + LISTING_CURSOR_FILTER)
+    Long countByCateId(Long cateId, Integer minPrice, Integer maxPrice, Float star);
+}
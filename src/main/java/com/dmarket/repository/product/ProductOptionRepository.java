@@ -3,11 +3,14 @@ package com.dmarket.repository.product;
 import com.dmarket.domain.product.ProductOption;
 import com.dmarket.dto.common.ProductCommonDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProductOptionRepository extends JpaRepository<ProductOption, Long> {
@@ -27,4 +30,21 @@ public interface ProductOptionRepository extends JpaRepository<ProductOption, Lo
     @Query("SELECT CASE WHEN COUNT(o) > 0 THEN true ELSE false END FROM ProductOption o WHERE o.productId = :productId")
     boolean existsByProductId(@Param("productId") Long productId);
 
+    // 옵션 재고 조회
+    @Query("select o.optionQuantity from ProductOption o where o.optionId = :optionId")
+    Optional<Integer> findQuantityByOptionId(@Param("optionId") Long optionId);
+
+    // 옵션 번호로 상품 번호 조회
+    @Query("select distinct o.productId from ProductOption o where o.optionId in :optionIds")
+    List<Long> findProductIdsByOptionIdIn(@Param("optionIds") Collection<Long> optionIds);
+
+    // 존재하는 옵션 번호만 조회
+    @Query("select o.optionId from ProductOption o where o.optionId in :optionIds")
+    List<Long> findOptionIdsByOptionIdIn(@Param("optionIds") Collection<Long> optionIds);
+
+    // 재고 예약 엔진에서 확정된 차감분 반영 (음수면 복구)
+    @Modifying
+    @Query("update ProductOption o set o.optionQuantity = o.optionQuantity - :count where o.optionId = :optionId")
+    void decreaseOptionQuantity(@Param("optionId") Long optionId, @Param("count") Integer count);
+
 }
@@ -18,32 +18,13 @@ import java.util.List;
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
-        // 카테고리별 상품 번호, 브랜드, 이름, 대표이미지, 판매가, 평점, 리뷰개수 조회
-        @Query(value = "select new com.dmarket.dto.response.ProductResDto$ProductListResDto" +
-                        "(p.productId, p.productBrand, p.productName, MIN(i.imgAddress) as productImg, " +
-                        "p.productSalePrice, p.productDiscountRate, p.productRating, COUNT(DISTINCT r.reviewId) as reviewCnt) "
-                        +
-                        "from Product p " +
-                        "join Category c on c.categoryId = p.categoryId " +
-                        "left join ProductReview r on r.productId = p.productId " +
-                        "left join ProductImgs i on i.productId = p.productId " +
-                        "where p.categoryId = :cateId and p.productSalePrice between :minPrice and :maxPrice " +
-                        "and CASE WHEN (:star = 0) THEN " +
-                        "(p.productRating >= :star or p.productRating IS NULL) " +
-                        "ELSE p.productRating >= :star END " +
-                        "and exists (select o from ProductOption o where o.productId = p.productId) " +
-                        "group by p.productId")
-        Page<ProductResDto.ProductListResDto> findByCateId(Pageable pageable, Long cateId, Integer minPrice,
-                        Integer maxPrice, Float star);
-
         // 상품 이름 or 브랜드로 목록 검색
         @Query(value = "select new com.dmarket.dto.response.ProductResDto$ProductListResDto" +
                         "(p.productId, p.productBrand, p.productName, MIN(i.imgAddress) as productImg, " +
-                        "p.productSalePrice, p.productDiscountRate, p.productRating, COUNT(DISTINCT r.reviewId) as reviewCnt) "
+                        "p.productSalePrice, p.productDiscountRate, p.productRating, p.productReviewCount as reviewCnt) "
                         +
                         "from Product p " +
                         "join Category c on c.categoryId = p.categoryId " +
-                        "left join ProductReview r on r.productId = p.productId " +
                         "left join ProductImgs i on i.productId = p.productId " +
                         "where (p.productName LIKE %:query% or p.productBrand LIKE %:query%) " +
                         "and p.productSalePrice between :minPrice and :maxPrice " +
@@ -57,36 +38,11 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
         // 상품의 상품 번호, 평균 평점, 리뷰 개수 조회
         @Query("select new com.dmarket.dto.common.ProductCommonDto$ProductDto" +
-                        "(p.productId, p.productRating, count(r.reviewId)) " +
+                        "(p.productId, p.productRating, p.productReviewCount) " +
                         "from Product p " +
-                        "left join ProductReview r on p.productId = r.productId " +
-                        "where p.productId = :productId " +
-                        "group by p.productId")
+                        "where p.productId = :productId")
         Optional<ProductCommonDto.ProductDto> findProductByProductId(Long productId);
 
-        // 같은 카테고리의 추천 상품(최신순 4개) 검색
-        @Query("select new com.dmarket.dto.response.ProductResDto$RecommendProductResDto" +
-                        "(p.categoryId, p.productId, p.productBrand, p.productName, MIN(i.imgAddress), p.productSalePrice, p.productDiscountRate, p.productRating, count(r.reviewId)) "
-                        +
-                        "from Product p " +
-                        "left join ProductImgs i on i.productId = p.productId " +
-                        "left join ProductReview r on p.productId = r.productId " +
-                        "where p.productId != :productId and p.categoryId = (select sp.categoryId from Product sp where sp.productId = :productId) "
-                        +
-                        "and exists (select o from ProductOption o where o.productId = p.productId) " +
-                        "group by p.productId")
-        List<ProductResDto.RecommendProductResDto> findRecommendProduct(Long productId, Pageable pageable);
-
-        @Query("SELECT NEW com.dmarket.dto.response.ProductResDto$NewProductResDto(" +
-                        "p.productId, p.productBrand, p.productName, MIN(pi.imgAddress), p.productPrice, p.productSalePrice, p.productDiscountRate) "
-                        +
-                        "FROM Product p " +
-                        "LEFT JOIN ProductImgs pi ON p.productId = pi.productId " +
-                        "WHERE exists (select o from ProductOption o where o.productId = p.productId) " +
-                        "GROUP BY p.productId " +
-                        "ORDER BY p.productCreatedDate DESC")
-        List<ProductResDto.NewProductResDto> findNewProducts();
-
         /**
          * Deprecated: Use instead @ProductRepository.findProductsByDiscountRate()
          * 2024-02-06 jupiter
@@ -104,30 +60,6 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
         // List<ProductResDto.NewProductResDto>
         // findHighDiscountRateProducts(@Param("categoryId") Long categoryId);
 
-        // 전체 카테고리 할인율 높은 순으로 상품 조회
-        @Query("SELECT NEW com.dmarket.dto.response.ProductResDto$NewProductResDto(" +
-                        "p.productId, p.productBrand, p.productName, MIN(pi.imgAddress), p.productPrice, p.productSalePrice, p.productDiscountRate) "
-                        +
-                        "FROM Product p " +
-                        "LEFT JOIN ProductImgs pi ON p.productId = pi.productId " +
-                        "WHERE exists (select o from ProductOption o where o.productId = p.productId) " +
-                        "GROUP BY p.productId " +
-                        "ORDER BY p.productDiscountRate DESC ")
-        List<ProductResDto.NewProductResDto> findProductsByDiscountRate(Pageable pageable);
-
-        // 카테고리별 할인율 높은 순으로 상품 조회
-        @Query("SELECT NEW com.dmarket.dto.response.ProductResDto$NewProductResDto(" +
-                        "p.productId, p.productBrand, p.productName, MIN(pi.imgAddress), p.productPrice, p.productSalePrice, p.productDiscountRate) "
-                        +
-                        "FROM Product p " +
-                        "LEFT JOIN ProductImgs pi ON p.productId = pi.productId " +
-                        "WHERE p.categoryId = :categoryId " +
-                        "and exists (select o from ProductOption o where o.productId = p.productId) " +
-                        "GROUP BY p.productId " +
-                        "ORDER BY p.productDiscountRate DESC ")
-        List<ProductResDto.NewProductResDto> findProductsByDiscountRate(@Param("categoryId") Long categoryId,
-                        Pageable pageable);
-
         /**
          * Deprecated: Product 엔티티 내에 업데이트 로직 추가 (2024-02-06 jupiter)
          */
@@ -160,21 +92,88 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
                         "ORDER BY p.productCreatedDate DESC")
         List<ProductResDto.ProductInfoOptionResDto> findProductDetails(@Param("productId") Long productId);
 
-        @Query(value = "select p, po " +
+        // 관리자 상품 목록 (옵션, 이미지는 페이지 단위 IN 쿼리로 따로 조회)
+        @Query(value = "select p " +
                         "from Product p " +
-                        "left join ProductOption po on p.productId = po.productId " +
                         "where p.categoryId = :cateId " +
                         "and p.productName LIKE %:query%")
-        Page<Object[]> findProductsByQuery(Pageable pageable, Long cateId, String query);
+        Page<Product> findAdminProductsByQuery(Pageable pageable, Long cateId, String query);
 
-        @Query(value = "select p, po " +
+        @Query(value = "select p " +
                         "from Product p " +
-                        "left join ProductOption po on p.productId = po.productId " +
                         "where p.categoryId = :cateId")
-        Page<Object[]> findProductsByCateId(Pageable pageable, Long cateId);
+        Page<Product> findAdminProductsByCateId(Pageable pageable, Long cateId);
 
         // 상품 이름 검색
         @Query("select p.productName from Product p where p.productId = :productId")
         String findProductName(Long productId);
 
+        // 자동완성 대상 상품 (옵션이 있는 상품만)
+        @Query("select new com.dmarket.dto.common.ProductCommonDto$ProductSuggestDto" +
+                        "(p.productId, p.productBrand, p.productName) " +
+                        "from Product p " +
+                        "where exists (select o from ProductOption o where o.productId = p.productId)")
+        List<ProductCommonDto.ProductSuggestDto> findSuggestProducts();
+
+        @Query("select new com.dmarket.dto.common.ProductCommonDto$ProductSuggestDto" +
+                        "(p.productId, p.productBrand, p.productName) " +
+                        "from Product p " +
+                        "where p.productId = :productId " +
+                        "and exists (select o from ProductOption o where o.productId = p.productId)")
+        Optional<ProductCommonDto.ProductSuggestDto> findSuggestProductById(@Param("productId") Long productId);
+
+        // 재색인용 상품 번호 범위
+        @Query("select min(p.productId) from Product p")
+        Long findMinProductId();
+
+        @Query("select max(p.productId) from Product p")
+        Long findMaxProductId();
+
+        // 재색인용 keyset 조회 (lastId 초과 endId 이하)
+        @Query("select p from Product p where p.productId > :lastId and p.productId <= :endId order by p.productId")
+        List<Product> findKeysetSlice(@Param("lastId") Long lastId, @Param("endId") Long endId, Pageable pageable);
+
+        // 상품 상세: 상품과 옵션을 한 번에 조회 ([Product, ProductOption] 행, 옵션이 없으면 ProductOption은 null)
+        @Query("select p, o from Product p " +
+                        "left join ProductOption o on o.productId = p.productId " +
+                        "where p.productId = :productId " +
+                        "order by o.optionId")
+        List<Object[]> findProductWithOptions(@Param("productId") Long productId);
+
+        // 홈 화면 상품 레일 후보: 옵션이 있는 카테고리 상품 (정렬, 개수는 Pageable로 지정)
+        @Query("select p from Product p where p.categoryId = :categoryId " +
+                        "and exists (select o from ProductOption o where o.productId = p.productId)")
+        List<Product> findHomeFeedCandidates(@Param("categoryId") Long categoryId, Pageable pageable);
+
+        // 리뷰 작성/삭제 시 리뷰 수, 별점 합계, 평균 별점을 한 번의 UPDATE로 반영
+        // (MariaDB는 SET 절을 왼쪽부터 적용하므로 평균 별점을 먼저 계산)
+        @Modifying
+        @Query("update Product p set " +
+                        "p.productRating = cast(CASE WHEN p.productReviewCount + :countDelta > 0 " +
+                        "THEN (p.productRatingSum + :ratingDelta) * 1.0 / (p.productReviewCount + :countDelta) ELSE 0 END as Float), " +
+                        "p.productReviewCount = p.productReviewCount + :countDelta, " +
+                        "p.productRatingSum = p.productRatingSum + :ratingDelta " +
+                        "where p.productId = :productId")
+        int applyReviewDelta(@Param("productId") Long productId, @Param("countDelta") long countDelta,
+                        @Param("ratingDelta") long ratingDelta);
+
+        // 리뷰 집계가 실제 리뷰와 다른 상품 번호 조회
+        @Query(value = "select p.product_id from product p " +
+                        "left join (select r.product_id, count(*) as cnt, sum(r.review_rating) as total " +
+                        "from product_review r group by r.product_id) a on a.product_id = p.product_id " +
+                        "where p.product_review_count <> coalesce(a.cnt, 0) " +
+                        "or p.product_rating_sum <> coalesce(a.total, 0)", nativeQuery = true)
+        List<Long> findReviewAggregateDriftProductIds();
+
+        // 상품의 리뷰 집계를 실제 리뷰로 다시 계산
+        @Modifying
+        @Query(value = "update product p " +
+                        "left join (select r.product_id, count(*) as cnt, sum(r.review_rating) as total " +
+                        "from product_review r where r.product_id in (:productIds) group by r.product_id) a " +
+                        "on a.product_id = p.product_id " +
+                        "set p.product_rating = CASE WHEN coalesce(a.cnt, 0) > 0 THEN a.total / a.cnt ELSE 0 END, " +
+                        "p.product_review_count = coalesce(a.cnt, 0), " +
+                        "p.product_rating_sum = coalesce(a.total, 0) " +
+                        "where p.product_id in (:productIds)", nativeQuery = true)
+        int recalculateReviewAggregates(@Param("productIds") List<Long> productIds);
 }
@@ -1,21 +1,31 @@
 package com.dmarket.repository.product;
 
+import com.dmarket.domain.document.ReviewDocument;
 import com.dmarket.domain.product.ProductReview;
 import com.dmarket.dto.common.ProductCommonDto;
 import com.dmarket.dto.response.AdminResDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface ProductReviewRepository extends JpaRepository<ProductReview, Long> {
 
     // 상품ID로 리뷰 개수 조회
     Long countByProductId(Long productId);
 
+    // 검색 인덱스용 상품별 리뷰 번호 조회
+    @Query("select new com.dmarket.domain.document.ReviewDocument(r.reviewId, r.productId) " +
+            "from ProductReview r where r.productId in :productIds")
+    List<ReviewDocument> findReviewDocumentsByProductIdIn(@Param("productIds") List<Long> productIds);
+
     // 상품 번호로 리뷰 목록 조회
     @Query("select new com.dmarket.dto.common.ProductCommonDto$ProductReviewDto" +
             "(r.reviewId, u.userName, o.optionValue, r.reviewRating, r.reviewContents, r.reviewCreatedDate, r.reviewImg) " +
@@ -25,6 +35,19 @@ public interface ProductReviewRepository extends JpaRepository<ProductReview, Lo
             "where r.productId = :productId")
     Page<ProductCommonDto.ProductReviewDto> findReviewByProductId(Pageable pageable, Long productId);
 
+    // 상품 번호로 리뷰 목록 커서 조회: (작성일, 리뷰 번호) 키셋, count 쿼리 없음 (lastId가 null이면 첫 페이지)
+    @Query("select new com.dmarket.dto.common.ProductCommonDto$ProductReviewDto" +
+            "(r.reviewId, u.userName, o.optionValue, r.reviewRating, r.reviewContents, r.reviewCreatedDate, r.reviewImg) " +
+            "from ProductReview r " +
+            "join User u on r.userId = u.userId " +
+            "join ProductOption o on r.optionId = o.optionId " +
+            "where r.productId = :productId " +
+            "and (:lastId is null or r.reviewCreatedDate < :lastCreatedDate " +
+            "or (r.reviewCreatedDate = :lastCreatedDate and r.reviewId < :lastId)) " +
+            "order by r.reviewCreatedDate desc, r.reviewId desc")
+    Slice<ProductCommonDto.ProductReviewDto> findReviewByProductIdAfter(Pageable pageable, Long productId,
+                                                                      LocalDateTime lastCreatedDate, Long lastId);
+
     void deleteByReviewId(@Param("reviewId") Long reviewId);
 
     @Query("select new com.dmarket.dto.response.AdminResDto$AdminReviewsResDto" +
@@ -5,11 +5,13 @@ import com.dmarket.dto.common.QnaDto;
 import com.dmarket.dto.response.QnaResDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 
@@ -26,6 +28,21 @@ public interface QnaRepository extends JpaRepository<Qna, Long> {
             "order by q.qnaCreatedDate desc")
     Page<QnaResDto.QnaProductIdListResDto> findQnasByProductId(@Param("productId") Long productId, Pageable pageable);
 
+    // 상품 별 Q&A 커서 조회: (작성일, Q&A 번호) 키셋, count 쿼리 없음 (lastId가 null이면 첫 페이지)
+    @Query("select new com.dmarket.dto.response.QnaResDto$QnaProductIdListResDto(" +
+            "q.qnaId, q.qnaSecret, u.userName, q.qnaTitle, q.qnaContents, q.qnaCreatedDate, " +
+            "q.qnaState, qr.qnaReplyDate, qr.qnaReplyContents) " +
+            "from Qna q " +
+            "join User u on u.userId = q.userId " +
+            "left join QnaReply qr on qr.qnaId = q.qnaId " +
+            "where q.productId = :productId " +
+            "and (:lastId is null or q.qnaCreatedDate < :lastCreatedDate " +
+            "or (q.qnaCreatedDate = :lastCreatedDate and q.qnaId < :lastId)) " +
+            "order by q.qnaCreatedDate desc, q.qnaId desc")
+    Slice<QnaResDto.QnaProductIdListResDto> findQnasByProductIdAfter(@Param("productId") Long productId,
+                                                                   @Param("lastCreatedDate") LocalDateTime lastCreatedDate,
+                                                                   @Param("lastId") Long lastId, Pageable pageable);
+
 
     @Query("SELECT new com.dmarket.dto.response.QnaResDto$QnaTotalListResDto(q, p, qr) " +
             "FROM Qna q " +
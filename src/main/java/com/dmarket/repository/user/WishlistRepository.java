@@ -5,10 +5,13 @@ import com.dmarket.dto.common.WishlistItemDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
     // 위시리스트 존재 여부 확인
@@ -24,6 +27,14 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
             " order by w.wishlistId desc")
     Page<WishlistItemDto> findWishlistItemsByUserId(Pageable pageable, @Param("userId") Long userId);
 
+    // 찜한 상품 번호 (위시리스트 포함 여부 집합 적재용)
+    @Query("select w.productId from Wishlist w where w.userId = :userId")
+    List<Long> findProductIdsByUserId(@Param("userId") Long userId);
+
+    // 삭제할 위시리스트의 상품 번호 (다른 사용자의 위시리스트 번호는 무시)
+    @Query("select w.productId from Wishlist w where w.userId = :userId and w.wishlistId in :wishlistIds")
+    List<Long> findProductIdsByUserIdAndWishlistIdIn(@Param("userId") Long userId, @Param("wishlistIds") List<Long> wishlistIds);
+
     // 위시리스트 개수 세기
     @Query(value = "select count(w.wishlistId) from Wishlist w where w.userId = :userId")
     Long countByUserId(@Param("userId") Long userId);
@@ -31,4 +42,22 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
     void deleteById(@Param("wishlistId") Long wishlistId);
 
     void deleteByProductId(@Param("productId") Long productId);
+
+    // 상품을 찜한 회원 번호 (상품 삭제 시 뱃지 카운터 정리용)
+    @Query("select w.userId from Wishlist w where w.productId = :productId")
+    List<Long> findUserIdsByProductId(@Param("productId") Long productId);
+
+    // 사용자의 위시리스트 일괄 삭제 (다른 사용자의 위시리스트 번호는 무시)
+    @Modifying
+    @Query("delete from Wishlist w where w.userId = :userId and w.wishlistId in :wishlistIds")
+    int deleteByUserIdAndWishlistIdIn(@Param("userId") Long userId, @Param("wishlistIds") List<Long> wishlistIds);
+
+    // 추천 배치용: 회원 번호 구간의 (회원 번호, 상품 번호) 목록
+    @Query("select w.userId, w.productId from Wishlist w " +
+            "where w.userId > :fromUserId and w.userId <= :toUserId " +
+            "order by w.userId")
+    List<Object[]> findUserProductPairs(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+
+    @Query("select max(w.userId) from Wishlist w")
+    Long findMaxUserId();
 }
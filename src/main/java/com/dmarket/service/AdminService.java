@@ -23,6 +23,7 @@ import com.dmarket.exception.BadRequestException;
 import com.dmarket.exception.ConflictException;
 import com.dmarket.exception.ErrorCode;
 import com.dmarket.exception.NotFoundException;
+import com.dmarket.event.ProductChangeEvent;
 import com.dmarket.jwt.JWTUtil;
 import com.dmarket.notification.SendNotificationEvent;
 import com.dmarket.repository.board.FaqRepository;
@@ -48,7 +49,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.text.DecimalFormat;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -86,7 +89,13 @@ public class AdminService {
     private final WishlistRepository wishlistRepository;
     private final CartRepository cartRepository;
     private final UserService userService;
+    private final BadgeCounterService badgeCounterService;
+    private final WishMembershipService wishMembershipService;
     private final ProductService productService;
+    private final StockReservationService stockReservationService;
+    private final CartStoreService cartStoreService;
+    private final PricingService pricingService;
+    private final ProductReindexService productReindexService;
     private final JWTUtil jwtUtil;
     private final ApplicationEventPublisher publisher;
 
@@ -260,6 +269,8 @@ public class AdminService {
 
         // ProductImgs 저장
         saveProductImgs(savedProduct.getProductId(), productList.getImgList());
+
+        publisher.publishEvent(ProductChangeEvent.of(savedProduct.getProductId(), ProductChangeType.PRODUCT));
     }
 
     @Transactional
@@ -299,6 +310,8 @@ public class AdminService {
                 productReqDto.getProductSalePrice(),
                 productReqDto.getProductDiscountRate(),
                 productReqDto.getProductDes());
+        pricingService.evictAfterCommit(productReqDto.getProductId());
+        publisher.publishEvent(ProductChangeEvent.of(productReqDto.getProductId(), ProductChangeType.PRODUCT));
 
         // productRepository.updateProductDetails(
         // productReqDto.getProductId(),
@@ -311,6 +324,9 @@ public class AdminService {
 
         // ProductOption 리스트 처리 전, 기존 옵션 삭제
         if (!productReqDto.getOptionList().isEmpty()) {
+            // 삭제되는 옵션의 재고 카운터 제거
+            productOptionRepository.findOptionsByProductIdIn(List.of(productReqDto.getProductId()))
+                    .forEach(productOption -> stockReservationService.evictAfterCommit(productOption.getOptionId()));
             productOptionRepository.deleteByProductId(productReqDto.getProductId());
             if (productReqDto.getOptionList() != null) {
                 for (OptionReqDto option : productReqDto.getOptionList()) {
@@ -324,6 +340,7 @@ public class AdminService {
 
                 }
             }
+            publisher.publishEvent(ProductChangeEvent.of(productReqDto.getProductId(), ProductChangeType.OPTION));
         }
 
         // ProductImgs 리스트 처리
@@ -339,6 +356,7 @@ public class AdminService {
 
                 }
             }
+            publisher.publishEvent(ProductChangeEvent.of(productReqDto.getProductId(), ProductChangeType.IMAGE));
         }
     }
 
@@ -355,8 +373,8 @@ public class AdminService {
 
         String productCategory = category.getCategoryName();
 
-        // 상품의 리뷰 개수 조회
-        Long reviewCnt = productReviewRepository.countByProductId(productId);
+        // 상품의 리뷰 개수
+        Long reviewCnt = product.getProductReviewCount();
 
         // 상품 옵션 목록, 옵션별 재고 조회
         List<ProductCommonDto.ProductOptionDto> opts = productOptionRepository.findOptionsByProductId(productId);
@@ -419,18 +437,19 @@ public class AdminService {
     public ProductResDto.ProductListAdminResDto getProductListBySearch(Long cateId, String query, int pageNo) {
         pageNo = pageValidation(pageNo);
         Pageable pageable = PageRequest.of(pageNo, PAGE_POST_COUNT, Sort.by(Sort.Direction.DESC, "productCreatedDate"));
-        Page<Object[]> products = productRepository.findProductsByQuery(pageable, cateId, query);
+        Page<Product> products = productRepository.findAdminProductsByQuery(pageable, cateId, query);
         Category category = categoryRepository.findByCategoryId(cateId);
+        return new ProductResDto.ProductListAdminResDto(products.getTotalPages(), toAdminProductList(products.getContent(), category));
+    }
 
-        List<ProductCommonDto.ProductListDto> result = new ArrayList<>();
-        for (Object[] tuple : products.getContent()) {
-            Product product = (Product) tuple[0];
-            ProductOption productOption = (ProductOption) tuple[1];
-            List<String> imgs = productImgsRepository.findAllByProductId(product.getProductId()); // 상품개수만큼 조회라서
-                                                                                                  // 성능저하될듯..
-            result.add(new ProductCommonDto.ProductListDto(product, category, productOption, imgs));
-        }
-        return new ProductResDto.ProductListAdminResDto(products.getTotalPages(), result);
+    // 상품 검색 인덱스 재색인 시작
+    public AdminResDto.ReindexStatusResDto startProductReindex() {
+        return productReindexService.startReindex();
+    }
+
+    // 상품 검색 인덱스 재색인 진행 상황 조회
+    public AdminResDto.ReindexStatusResDto getProductReindexStatus() {
+        return productReindexService.getStatus();
     }
 
     // 상품 재고 추가
@@ -448,10 +467,10 @@ public class AdminService {
             Optional<ProductOption> optionalProductOption = productOptionRepository.findById(optionId);
 
             if (optionalProductOption.isPresent()) {
-                ProductOption productOption = optionalProductOption.get();
-
-                productOption.setOptionQuantity(productOption.getOptionQuantity() + addCount);
-                productOptionRepository.save(productOption);
+                // 결제 차감분 반영과 겹치지 않도록 현재 값 기준 증감 쿼리로 추가
+                productOptionRepository.decreaseOptionQuantity(optionId, -addCount);
+                stockReservationService.adjust(optionId, addCount);
+                publisher.publishEvent(ProductChangeEvent.of(productId, ProductChangeType.STOCK));
             } else {
                 throw new IllegalArgumentException("상품 옵션을 찾을 수 없습니다.");
             }
@@ -763,29 +782,56 @@ public class AdminService {
     @Transactional
     public void deleteOptionByOptionId(Long productId, Long optionId) {
         productOptionRepository.deleteByOptionId(optionId);
+        stockReservationService.evictAfterCommit(optionId);
+        cartStoreService.removeOptionAfterCommit(productId, optionId);
         cartRepository.deleteByOptionId(optionId);
         
         if (!productOptionRepository.existsByProductId(productId)) {
+            List<Long> wishUserIds = wishlistRepository.findUserIdsByProductId(productId);
+            badgeCounterService.evictAfterCommit(wishUserIds, BadgeCounterService.Badge.WISH);
+            wishUserIds.forEach(userId -> wishMembershipService.removeAfterCommit(userId, List.of(productId)));
             wishlistRepository.deleteByProductId(productId);
         }
+        publisher.publishEvent(ProductChangeEvent.of(productId, ProductChangeType.OPTION));
     }
 
     // 상품 목록 조회
     public ProductResDto.ProductListAdminResDto getProductListByCategoryId(Long cateId, int pageNo) {
         pageNo = pageValidation(pageNo);
         Pageable pageable = PageRequest.of(pageNo, PAGE_POST_COUNT, Sort.by(Sort.Direction.DESC, "productCreatedDate"));
-        Page<Object[]> products = productRepository.findProductsByCateId(pageable, cateId);
+        Page<Product> products = productRepository.findAdminProductsByCateId(pageable, cateId);
         Category category = categoryRepository.findByCategoryId(cateId);
+        return new ProductResDto.ProductListAdminResDto(products.getTotalPages(), toAdminProductList(products.getContent(), category));
+    }
+
+    // 페이지의 상품 목록을 옵션별 행으로 변환 (옵션, 이미지는 페이지 전체를 IN 쿼리 한 번씩으로 조회해 메모리에서 묶음)
+    private List<ProductCommonDto.ProductListDto> toAdminProductList(List<Product> products, Category category) {
+        if (products.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> productIds = products.stream().map(Product::getProductId).toList();
+        Map<Long, List<ProductOption>> options = productOptionRepository.findOptionsByProductIdIn(productIds).stream()
+                .sorted(Comparator.comparing(ProductOption::getOptionId))
+                .collect(Collectors.groupingBy(ProductOption::getProductId));
+        Map<Long, List<String>> imgs = productImgsRepository.findAllByProductIdIn(productIds).stream()
+                .sorted(Comparator.comparing(ProductImgs::getImgId))
+                .collect(Collectors.groupingBy(ProductImgs::getProductId,
+                        Collectors.mapping(ProductImgs::getImgAddress, Collectors.toList())));
 
-        // 제품 목록을 처리하고 DTO 목록을 만듭니다.
         List<ProductCommonDto.ProductListDto> result = new ArrayList<>();
-        for (Object[] tuple : products.getContent()) {
-            Product product = (Product) tuple[0];
-            ProductOption productOption = (ProductOption) tuple[1];
-            List<String> imgs = productImgsRepository.findAllByProductId(product.getProductId());
-            result.add(new ProductCommonDto.ProductListDto(product, category, productOption, imgs));
+        for (Product product : products) {
+            List<String> productImgs = imgs.getOrDefault(product.getProductId(), new ArrayList<>());
+            List<ProductOption> productOptions = options.get(product.getProductId());
+            // 옵션이 없는 상품도 한 행으로 표시
+            if (productOptions == null) {
+                result.add(new ProductCommonDto.ProductListDto(product, category, null, productImgs));
+                continue;
+            }
+            for (ProductOption productOption : productOptions) {
+                result.add(new ProductCommonDto.ProductListDto(product, category, productOption, productImgs));
+            }
         }
-        return new ProductResDto.ProductListAdminResDto(products.getTotalPages(), result);
+        return result;
     }
 
     // 관리자 전체 조회
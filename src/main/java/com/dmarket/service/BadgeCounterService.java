@@ -0,0 +1,123 @@
+package com.dmarket.service;
+
+import com.dmarket.event.AfterCommit;
+import com.dmarket.notification.NotificationRepository;
+import com.dmarket.repository.user.WishlistRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 헤더 뱃지 카운터
+ * - 사용자별 위시리스트 개수, 안 읽은 알림 개수를 Redis 해시(badge:{userId})에 보관해 조회는 HGET 한 번
+ * - 카운터가 없을 때만 DB COUNT로 채우고, 이후에는 변경 트랜잭션 커밋 후 증감만 반영
+ * - 증감은 카운터가 있을 때만 적용 (없으면 다음 조회 때 DB에서 다시 셈)
+ * - 변경마다 카운터별 버전 필드("필드.v")를 올리고, DB COUNT 결과는 세기 전 버전이 그대로일 때만 저장
+ *   (세는 도중 커밋된 변경을 놓친 값이 카운터로 남지 않도록 함)
+ * 장바구니 개수는 장바구니 저장소(CartStoreService)의 해시 크기를 그대로 사용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BadgeCounterService {
+
+    private static final String BADGE_KEY_PREFIX = "badge:";
+
+    private static final String VERSION_SUFFIX = ".v";
+
+    // 버전을 올린 뒤 필드가 있을 때만 증감 (음수로 내려가지 않도록 0에서 멈춤)
+    // ARGV: 필드, 증감, 유지 초 (만료 시간이 없는 해시가 남지 않도록 처음 만들 때 만료 지정)
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT = new DefaultRedisScript<>(
+            "redis.call('HINCRBY', KEYS[1], ARGV[1] .. '" + VERSION_SUFFIX + "', 1) " +
+            "if redis.call('TTL', KEYS[1]) < 0 then redis.call('EXPIRE', KEYS[1], ARGV[3]) end " +
+            "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then return nil end " +
+            "local value = redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) " +
+            "if value < 0 then redis.call('HSET', KEYS[1], ARGV[1], 0) return 0 end " +
+            "return value", Long.class);
+
+    // 버전을 올리고 필드 제거 (ARGV: 필드, 유지 초)
+    private static final RedisScript<Long> EVICT = new DefaultRedisScript<>(
+            "redis.call('HINCRBY', KEYS[1], ARGV[1] .. '" + VERSION_SUFFIX + "', 1) " +
+            "if redis.call('TTL', KEYS[1]) < 0 then redis.call('EXPIRE', KEYS[1], ARGV[2]) end " +
+            "return redis.call('HDEL', KEYS[1], ARGV[1])", Long.class);
+
+    // 세기 전 버전과 같을 때만 저장, 저장된 값 반환 (ARGV: 필드, 세기 전 버전, 센 값, 유지 초)
+    private static final RedisScript<Long> SET_IF_UNCHANGED = new DefaultRedisScript<>(
+            "if (redis.call('HGET', KEYS[1], ARGV[1] .. '" + VERSION_SUFFIX + "') or '0') ~= ARGV[2] then return nil end " +
+            "if redis.call('HSETNX', KEYS[1], ARGV[1], ARGV[3]) == 1 and redis.call('TTL', KEYS[1]) < 0 then " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[4]) end " +
+            "return tonumber(redis.call('HGET', KEYS[1], ARGV[1]))", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final WishlistRepository wishlistRepository;
+    private final NotificationRepository notificationRepository;
+
+    // 카운터 유지 기간 (만료되면 다음 조회 때 DB에서 다시 셈)
+    @Value("${badge.counter.ttl-hours:24}")
+    private long ttlHours;
+
+    public long getWishCount(Long userId) {
+        return get(userId, Badge.WISH, () -> wishlistRepository.countByUserId(userId));
+    }
+
+    public long getUnreadNotificationCount(Long userId) {
+        return get(userId, Badge.UNREAD_NOTIFICATION, () -> notificationRepository.countByReceiverAndIsRead(userId, false));
+    }
+
+    // 현재 트랜잭션 커밋 후 카운터 증감 (트랜잭션 밖이면 바로 반영)
+    public void adjustAfterCommit(Long userId, Badge badge, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        AfterCommit.run(() -> stringRedisTemplate.execute(INCREMENT_IF_PRESENT, List.of(key(userId)),
+                badge.getField(), String.valueOf(delta), ttlSeconds()));
+    }
+
+    // 증감을 알 수 없는 변경 후 카운터 제거 (다음 조회 때 DB에서 다시 셈)
+    public void evictAfterCommit(Collection<Long> userIds, Badge badge) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> userIds.forEach(userId -> stringRedisTemplate.execute(EVICT, List.of(key(userId)),
+                badge.getField(), ttlSeconds())));
+    }
+
+    private long get(Long userId, Badge badge, LongSupplier loader) {
+        String key = key(userId);
+        Object value = stringRedisTemplate.opsForHash().get(key, badge.getField());
+        if (value != null) {
+            return Long.parseLong((String) value);
+        }
+        Object version = stringRedisTemplate.opsForHash().get(key, badge.getField() + VERSION_SUFFIX);
+        long count = loader.getAsLong();
+        // 동시에 채워진 값이 있으면 그 값을 사용, 세는 도중 변경이 있었으면 저장하지 않음 (다음 조회 때 다시 셈)
+        Long stored = stringRedisTemplate.execute(SET_IF_UNCHANGED, List.of(key),
+                badge.getField(), version == null ? "0" : (String) version, String.valueOf(count), ttlSeconds());
+        return stored == null ? count : stored;
+    }
+
+    private String ttlSeconds() {
+        return String.valueOf(Duration.ofHours(ttlHours).toSeconds());
+    }
+
+    private String key(Long userId) {
+        return BADGE_KEY_PREFIX + userId;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Badge {
+        WISH("wish"),
+        UNREAD_NOTIFICATION("noti");
+
+        private final String field;
+    }
+}
@@ -0,0 +1,308 @@
+package com.dmarket.service;
+
+import com.dmarket.domain.user.Cart;
+import com.dmarket.dto.common.CartCommonDto;
+import com.dmarket.dto.common.ProductCommonDto;
+import com.dmarket.dto.response.ProductResDto;
+import com.dmarket.event.AfterCommit;
+import com.dmarket.exception.NotFoundException;
+import com.dmarket.repository.product.ProductOptionRepository;
+import com.dmarket.repository.user.CartRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 장바구니 저장소
+ * - 사용자별 장바구니를 Redis 해시(cart:{userId}, "상품 번호:옵션 번호" -> 수량)로 보관하고 조회/변경은 Redis만 사용
+ * - 해시가 없으면 cart 테이블에서 한 번 읽어 채움 (적재 여부는 LOADED_FIELD로 표시)
+ * - 변경된 사용자는 cart:dirty 집합에 넣고, 주기적으로 모아서 cart 테이블에 반영 (write-behind)
+ *   반영은 cart:flush-lock을 잡은 인스턴스 하나만 수행하고, cart(user_id, option_id) 유니크 키로 중복 행을 막음
+ *   삭제된 옵션은 반영하지 않고 Redis 장바구니에서도 제거
+ * - 옵션별로 담은 사용자를 cart:option:{optionId} 집합에 기록해, 옵션 삭제 시 DB에 아직 반영되지 않은 장바구니까지 제거
+ * - 장바구니 화면의 상품 정보는 상품 상세 캐시(productDetail)에서 가져옴
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CartStoreService {
+
+    private static final String CART_KEY_PREFIX = "cart:";
+    private static final String DIRTY_KEY = "cart:dirty";
+    private static final String LOADED_FIELD = "_";
+    private static final String FLUSH_LOCK_KEY = "cart:flush-lock";
+    private static final String OPTION_USERS_KEY_PREFIX = "cart:option:";
+    private static final char FIELD_SEPARATOR = ':';
+
+    // 적재 표시가 없을 때만 DB 내용을 채움 (ARGV: 만료 초, 필드1, 값1, 필드2, 값2, ...)
+    // 확인과 적재를 한 번에 실행해 적재 중 제거된 항목이 다시 살아나지 않도록 함
+    private static final RedisScript<Long> LOAD_IF_ABSENT = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], '" + LOADED_FIELD + "') == 1 then return 0 end " +
+            "for i = 2, #ARGV, 2 do redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('HSET', KEYS[1], '" + LOADED_FIELD + "', '1') " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1", Long.class);
+
+    // 자신이 잡은 잠금만 해제
+    private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CartRepository cartRepository;
+    private final ProductOptionRepository productOptionRepository;
+    private final ProductDetailService productDetailService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 마지막 변경 후 장바구니를 Redis에 유지하는 기간 (이후 조회 시 DB에서 다시 적재)
+    @Value("${cart.store.ttl-hours:168}")
+    private long ttlHours;
+
+    // 한 번에 DB에 반영할 사용자 수
+    @Value("${cart.write-behind.batch-size:500}")
+    private int batchSize;
+
+    // DB 반영 잠금 유지 시간 (반영 중 인스턴스가 죽어도 이후 풀림)
+    @Value("${cart.write-behind.lock-ms:60000}")
+    private long lockMillis;
+
+    // 장바구니 담기 (같은 옵션이면 수량만 추가)
+    public void add(Long userId, Long productId, Long optionId, Integer count) {
+        ensureLoaded(userId);
+        hash().increment(key(userId), field(productId, optionId), count);
+        // 옵션 삭제 시 찾을 수 있도록 담은 사용자 기록 (장바구니와 같은 기간 유지)
+        String optionUsersKey = OPTION_USERS_KEY_PREFIX + optionId;
+        stringRedisTemplate.opsForSet().add(optionUsersKey, String.valueOf(userId));
+        stringRedisTemplate.expire(optionUsersKey, Duration.ofHours(ttlHours));
+        touch(userId);
+    }
+
+    // 장바구니 상품 종류 수
+    public int count(Long userId) {
+        ensureLoaded(userId);
+        return (int) Math.max(hash().size(key(userId)) - 1, 0);
+    }
+
+    // 장바구니 목록 (장바구니 번호는 옵션 번호를 사용)
+    public List<CartCommonDto.CartListDto> getItems(Long userId) {
+        ensureLoaded(userId);
+        List<CartCommonDto.CartListDto> items = new ArrayList<>();
+        List<Long> removedOptionIds = new ArrayList<>();
+        for (Map.Entry<String, String> entry : hash().entries(key(userId)).entrySet()) {
+            if (LOADED_FIELD.equals(entry.getKey())) {
+                continue;
+            }
+            Long productId = productIdOf(entry.getKey());
+            Long optionId = optionIdOf(entry.getKey());
+            CartCommonDto.CartListDto item = toItem(productId, optionId, Integer.parseInt(entry.getValue()));
+            if (item == null) {
+                removedOptionIds.add(optionId);
+            } else {
+                items.add(item);
+            }
+        }
+        // 삭제된 상품/옵션은 장바구니에서도 제거
+        if (!removedOptionIds.isEmpty()) {
+            remove(userId, removedOptionIds);
+        }
+        items.sort((a, b) -> Long.compare(b.getOptionId(), a.getOptionId()));
+        return items;
+    }
+
+    // 옵션 번호로 장바구니 상품 제거, 제거된 개수 반환
+    public int remove(Long userId, Collection<Long> optionIds) {
+        ensureLoaded(userId);
+        Set<Long> targets = new HashSet<>(optionIds);
+        List<Object> fields = new ArrayList<>();
+        for (String field : hash().keys(key(userId))) {
+            if (!LOADED_FIELD.equals(field) && targets.contains(optionIdOf(field))) {
+                fields.add(field);
+            }
+        }
+        if (fields.isEmpty()) {
+            return 0;
+        }
+        int removed = hash().delete(key(userId), fields.toArray()).intValue();
+        touch(userId);
+        return removed;
+    }
+
+    // 옵션 삭제 트랜잭션 커밋 후 그 옵션을 담은 사용자의 Redis 장바구니에서 제거 (cart 행 삭제 전에 호출)
+    public void removeOptionAfterCommit(Long productId, Long optionId) {
+        Set<String> userIds = new HashSet<>();
+        cartRepository.findUserIdsByOptionId(optionId).forEach(userId -> userIds.add(String.valueOf(userId)));
+        AfterCommit.run(() -> {
+            String optionUsersKey = OPTION_USERS_KEY_PREFIX + optionId;
+            Set<String> recorded = stringRedisTemplate.opsForSet().members(optionUsersKey);
+            if (recorded != null) {
+                userIds.addAll(recorded);
+            }
+            String field = field(productId, optionId);
+            userIds.forEach(userId -> hash().delete(CART_KEY_PREFIX + userId, field));
+            stringRedisTemplate.delete(optionUsersKey);
+        });
+    }
+
+    // 변경된 사용자의 장바구니를 cart 테이블에 반영
+    @Scheduled(fixedDelayString = "${cart.write-behind.interval-ms:5000}")
+    public void flush() {
+        // 같은 사용자를 여러 인스턴스가 동시에 반영하지 않도록 잠금을 잡은 인스턴스만 반영
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                .setIfAbsent(FLUSH_LOCK_KEY, token, Duration.ofMillis(lockMillis)))) {
+            return;
+        }
+        try {
+            List<String> dirty = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, batchSize);
+            while (dirty != null && !dirty.isEmpty()) {
+                List<Long> userIds = dirty.stream().map(Long::valueOf).toList();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> write(userIds));
+                } catch (RuntimeException e) {
+                    // 다음 주기에 다시 반영
+                    stringRedisTemplate.opsForSet().add(DIRTY_KEY, dirty.toArray(new String[0]));
+                    log.warn("[CartStoreService] 장바구니 DB 반영 실패: 사용자 {}명", userIds.size(), e);
+                    return;
+                }
+                dirty = dirty.size() < batchSize ? null : stringRedisTemplate.opsForSet().pop(DIRTY_KEY, batchSize);
+            }
+        } finally {
+            stringRedisTemplate.execute(RELEASE_LOCK, List.of(FLUSH_LOCK_KEY), token);
+        }
+    }
+
+    private void write(List<Long> userIds) {
+        // 사용자 번호 -> (옵션 번호 -> 기존 행)
+        Map<Long, Map<Long, Cart>> rows = new HashMap<>();
+        for (Cart cart : cartRepository.findAllByUserIdIn(userIds)) {
+            rows.computeIfAbsent(cart.getUserId(), id -> new HashMap<>()).put(cart.getOptionId(), cart);
+        }
+
+        Map<Long, Map<String, String>> carts = new HashMap<>();
+        Set<Long> optionIds = new HashSet<>();
+        for (Long userId : userIds) {
+            Map<String, String> entries = hash().entries(key(userId));
+            // 만료된 장바구니는 DB가 최신이므로 건너뜀
+            if (!entries.containsKey(LOADED_FIELD)) {
+                continue;
+            }
+            entries.remove(LOADED_FIELD);
+            carts.put(userId, entries);
+            entries.keySet().forEach(field -> optionIds.add(optionIdOf(field)));
+        }
+        Set<Long> liveOptionIds = optionIds.isEmpty()
+                ? new HashSet<>() : new HashSet<>(productOptionRepository.findOptionIdsByOptionIdIn(optionIds));
+
+        List<Cart> inserts = new ArrayList<>();
+        List<Cart> deletes = new ArrayList<>();
+        for (Map.Entry<Long, Map<String, String>> cartEntry : carts.entrySet()) {
+            Long userId = cartEntry.getKey();
+            Map<Long, Cart> existing = rows.getOrDefault(userId, new HashMap<>());
+            List<Object> deletedFields = new ArrayList<>();
+            for (Map.Entry<String, String> entry : cartEntry.getValue().entrySet()) {
+                Long optionId = optionIdOf(entry.getKey());
+                // 삭제된 옵션은 DB에 다시 넣지 않고 Redis에서도 제거
+                if (!liveOptionIds.contains(optionId)) {
+                    deletedFields.add(entry.getKey());
+                    continue;
+                }
+                Integer count = Integer.valueOf(entry.getValue());
+                Cart cart = existing.remove(optionId);
+                if (cart == null) {
+                    inserts.add(Cart.builder()
+                            .userId(userId)
+                            .productId(productIdOf(entry.getKey()))
+                            .optionId(optionId)
+                            .cartCount(count)
+                            .build());
+                } else if (!count.equals(cart.getCartCount())) {
+                    cart.changeCartCount(count);
+                }
+            }
+            // Redis에 없는 행은 삭제된 상품
+            deletes.addAll(existing.values());
+            if (!deletedFields.isEmpty()) {
+                hash().delete(key(userId), deletedFields.toArray());
+            }
+        }
+        cartRepository.saveAll(inserts);
+        if (!deletes.isEmpty()) {
+            cartRepository.deleteAllInBatch(deletes);
+        }
+    }
+
+    // Redis에 장바구니가 없으면 DB에서 적재
+    private void ensureLoaded(Long userId) {
+        String key = key(userId);
+        if (Boolean.TRUE.equals(hash().hasKey(key, LOADED_FIELD))) {
+            return;
+        }
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(Duration.ofHours(ttlHours).toSeconds()));
+        for (Cart cart : cartRepository.findAllByUserId(userId)) {
+            args.add(field(cart.getProductId(), cart.getOptionId()));
+            args.add(String.valueOf(cart.getCartCount()));
+        }
+        // 그사이 다른 요청이 먼저 적재했으면 아무것도 하지 않음 (적재 중에 먼저 담긴 값은 HSETNX로 유지)
+        stringRedisTemplate.execute(LOAD_IF_ABSENT, List.of(key), args.toArray());
+    }
+
+    // 변경 후 만료 시간 연장, DB 반영 대상에 추가
+    private void touch(Long userId) {
+        stringRedisTemplate.expire(key(userId), Duration.ofHours(ttlHours));
+        stringRedisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(userId));
+    }
+
+    // 상품 상세 캐시로 장바구니 항목 생성 (상품이나 옵션이 삭제됐으면 null)
+    private CartCommonDto.CartListDto toItem(Long productId, Long optionId, int count) {
+        ProductResDto.ProductInfoResDto product;
+        try {
+            product = productDetailService.getProductInfo(productId);
+        } catch (NotFoundException e) {
+            return null;
+        }
+        for (ProductCommonDto.ProductOptionDto option : product.getOptionList()) {
+            if (option.getOptionId().equals(optionId)) {
+                return new CartCommonDto.CartListDto(product, option, count);
+            }
+        }
+        return null;
+    }
+
+    private HashOperations<String, String, String> hash() {
+        return stringRedisTemplate.opsForHash();
+    }
+
+    private String key(Long userId) {
+        return CART_KEY_PREFIX + userId;
+    }
+
+    private String field(Long productId, Long optionId) {
+        return productId + String.valueOf(FIELD_SEPARATOR) + optionId;
+    }
+
+    private Long productIdOf(String field) {
+        return Long.valueOf(field.substring(0, field.indexOf(FIELD_SEPARATOR)));
+    }
+
+    private Long optionIdOf(String field) {
+        return Long.valueOf(field.substring(field.indexOf(FIELD_SEPARATOR) + 1));
+    }
+}
@@ -0,0 +1,169 @@
+package com.dmarket.service;
+
+import com.dmarket.domain.product.Category;
+import com.dmarket.exception.NotFoundException;
+import com.dmarket.repository.product.CategoryRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.dmarket.exception.ErrorCode.CATEGORY_NOT_FOUND;
+
+/**
+ * 카테고리 트리
+ * - category 테이블 전체를 한 번 읽어 메모리에 올려두고 경로, 자식, 하위 카테고리 목록을 미리 계산해 둠
+ * - 조회는 불변 스냅샷의 맵 조회만 하므로 요청마다 DB나 지연 로딩 연관관계를 타지 않음
+ * - 카테고리가 바뀌면 reload()로 스냅샷 전체를 새로 만들어 교체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryTree {
+
+    private static final String PATH_SEPARATOR = " > ";
+
+    private final CategoryRepository categoryRepository;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        reload();
+    }
+
+    // 전체 카테고리 번호
+    public Set<Long> getAllIds() {
+        return snapshot().nodes.keySet();
+    }
+
+    public boolean contains(Long categoryId) {
+        return snapshot().nodes.containsKey(categoryId);
+    }
+
+    public Node getNode(Long categoryId) {
+        Node node = snapshot().nodes.get(categoryId);
+        if (node == null) {
+            throw new NotFoundException(CATEGORY_NOT_FOUND);
+        }
+        return node;
+    }
+
+    public Integer getDepth(Long categoryId) {
+        return getNode(categoryId).getCategoryDepth();
+    }
+
+    // 최상위부터 해당 카테고리까지의 경로
+    public List<Node> getPath(Long categoryId) {
+        return snapshot().paths.getOrDefault(categoryId, List.of());
+    }
+
+    // 카테고리 경로 이름 ("상위 > 하위")
+    public String getPathName(Long categoryId) {
+        return snapshot().pathNames.getOrDefault(categoryId, "");
+    }
+
+    // 바로 아래 자식 카테고리
+    public List<Node> getChildren(Long categoryId) {
+        return snapshot().children.getOrDefault(categoryId, List.of());
+    }
+
+    // 자기 자신을 포함한 모든 하위 카테고리 번호 (IN 조건용)
+    public List<Long> getSubtreeIds(Long categoryId) {
+        return snapshot().subtreeIds.getOrDefault(categoryId, List.of());
+    }
+
+    // 카테고리 테이블 다시 읽기
+    public synchronized void reload() {
+        List<Category> categories = categoryRepository.findAll();
+        snapshot = new Snapshot(categories);
+        log.info("[CategoryTree] 카테고리 {}개 적재", categories.size());
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            reload();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    @Getter
+    public static class Node {
+        private final Long categoryId;
+        private final Long categoryParentId;
+        private final String categoryName;
+        private final Integer categoryDepth;
+
+        private Node(Category category) {
+            this.categoryId = category.getCategoryId();
+            this.categoryParentId = category.getCategoryParentId();
+            this.categoryName = category.getCategoryName();
+            this.categoryDepth = category.getCategoryDepth();
+        }
+    }
+
+    private static class Snapshot {
+        private final Map<Long, Node> nodes;
+        private final Map<Long, List<Node>> paths;
+        private final Map<Long, String> pathNames;
+        private final Map<Long, List<Node>> children;
+        private final Map<Long, List<Long>> subtreeIds;
+
+        private Snapshot(List<Category> categories) {
+            Map<Long, Node> nodes = new HashMap<>();
+            Map<Long, List<Node>> children = new HashMap<>();
+            categories.stream()
+                    .sorted(Comparator.comparing(Category::getCategoryId))
+                    .map(Node::new)
+                    .forEach(node -> {
+                        nodes.put(node.getCategoryId(), node);
+                        if (node.getCategoryParentId() != null) {
+                            children.computeIfAbsent(node.getCategoryParentId(), id -> new ArrayList<>()).add(node);
+                        }
+                    });
+
+            Map<Long, List<Node>> paths = new HashMap<>();
+            Map<Long, String> pathNames = new HashMap<>();
+            Map<Long, List<Long>> subtreeIds = new HashMap<>();
+            for (Node node : nodes.values()) {
+                List<Node> path = new ArrayList<>();
+                // 부모를 따라 올라가며 경로 생성 (잘못된 데이터로 순환이 생겨도 멈추도록 깊이 제한)
+                for (Node current = node; current != null && path.size() <= nodes.size(); current = nodes.get(current.getCategoryParentId())) {
+                    path.add(0, current);
+                }
+                paths.put(node.getCategoryId(), List.copyOf(path));
+                pathNames.put(node.getCategoryId(), String.join(PATH_SEPARATOR, path.stream().map(Node::getCategoryName).toList()));
+
+                // 경로 위의 모든 조상 카테고리의 하위 목록에 추가
+                for (Node ancestor : path) {
+                    subtreeIds.computeIfAbsent(ancestor.getCategoryId(), id -> new ArrayList<>()).add(node.getCategoryId());
+                }
+            }
+
+            // null 키 조회(카테고리 없는 상품)도 허용하도록 HashMap 기반 읽기 전용 맵 사용
+            this.nodes = Collections.unmodifiableMap(nodes);
+            this.paths = Collections.unmodifiableMap(paths);
+            this.pathNames = Collections.unmodifiableMap(pathNames);
+            this.children = copyOf(children);
+            this.subtreeIds = copyOf(subtreeIds);
+        }
+
+        private static <T> Map<Long, List<T>> copyOf(Map<Long, List<T>> source) {
+            Map<Long, List<T>> copy = new HashMap<>();
+            source.forEach((key, value) -> copy.put(key, List.copyOf(value)));
+            return Collections.unmodifiableMap(copy);
+        }
+    }
+}
@@ -1,36 +1,39 @@
 package com.dmarket.service;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Conflicts;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.FieldSort;
+import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch._types.SortOptions;
 import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.mapping.FieldType;
 import co.elastic.clients.elasticsearch._types.query_dsl.MatchQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.MultiMatchQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch._types.query_dsl.RangeQuery;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.UpdateByQueryResponse;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.json.JsonData;
-import co.elastic.clients.json.jackson.JacksonJsonpMapper;
-import co.elastic.clients.transport.ElasticsearchTransport;
-import co.elastic.clients.transport.rest_client.RestClientTransport;
 import com.dmarket.domain.document.ProductDocument;
 import com.dmarket.dto.common.ProductCommonDto;
 import com.dmarket.dto.response.OrderResDto;
 import com.dmarket.dto.response.ProductResDto;
 import com.dmarket.dto.response.ReviewResDto;
 import com.dmarket.elastic.ESUtil;
+import com.dmarket.exception.BadRequestException;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.http.Header;
-import org.apache.http.HttpHost;
-import org.apache.http.message.BasicHeader;
-import org.elasticsearch.client.RestClient;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.data.domain.*;
 import org.springframework.data.elasticsearch.annotations.Setting;
@@ -43,80 +46,59 @@ import org.springframework.transaction.annotation.Transactional;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 import java.util.function.Supplier;
 
+import static com.dmarket.exception.ErrorCode.INVALID_SEARCH_CURSOR;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ElasticsearchService {
-    @Value("${elasticsearch.serverUrl}")
-    private String serverUrl;
-    @Value("${elasticsearch.apiKey}")
-    private String apiKey;
-
     private static final int PAGE_SIZE = 16;
+    private static final String REVIEW_COUNT_FIELD = "review_count";
+    private static final double MIN_SCORE = 10.0;
+    private static final String PIT_KEEP_ALIVE = "1m";
 
-    private RestClient restClient;
-    private ElasticsearchTransport transport;
-    private ElasticsearchClient client;
+    private final ObjectMapper objectMapper;
 
-    private static List<ProductCommonDto.ProductSearchListDto> productSearchList = new ArrayList<>();
+    private final ElasticsearchClient client;
 
-    @PostConstruct
-    public void init() {
-        restClient = RestClient
-                .builder(HttpHost.create(serverUrl))
-                .setDefaultHeaders(new Header[]{
-                        new BasicHeader("Authorization", "ApiKey " + apiKey)
-                })
-                .build();
+    // review_count 필드 매핑 추가 후 값이 없는 문서 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void initReviewCount() {
+        try {
+            client.indices().putMapping(m -> m
+                    .index(ESUtil.PRODUCT_INDEX)
+                    .properties(REVIEW_COUNT_FIELD, p -> p.integer(i -> i)));
 
-        transport = new RestClientTransport(
-                restClient, new JacksonJsonpMapper());
-        client = new ElasticsearchClient(transport);
+            UpdateByQueryResponse response = client.updateByQuery(u -> u
+                    .index(ESUtil.PRODUCT_INDEX)
+                    .conflicts(Conflicts.Proceed)
+                    .waitForCompletion(false)
+                    .query(q -> q.bool(b -> b.mustNot(m -> m.exists(e -> e.field(REVIEW_COUNT_FIELD)))))
+                    .script(sc -> sc.inline(i -> i
+                            .lang("painless")
+                            .source("def reviews = ctx._source.review_enriched; " +
+                                    "ctx._source.review_count = reviews == null ? 0 : (reviews instanceof List ? reviews.size() : 1);"))));
+            log.info("[ElasticsearchService] review_count 초기화 작업 시작: task={}", response.task());
+        } catch (IOException | ElasticsearchException e) {
+            log.error("[ElasticsearchService] review_count 초기화 실패", e);
+        }
     }
 
     public ProductResDto.ProductSearchListResDto getElasticSearchProducts(int pageNo, String query, String sorter,
                                                                           Integer minPrice, Integer maxPrice, Float star) throws IOException {
-
-        List<String> fields = Arrays.asList("product_name^2", "product_brand^2", "product_description^1");
-        List<String> noriFields = Arrays.asList("product_name.nori^2", "product_brand.nori^2", "product_description.nori^1");
-        List<String> ngramFields = Arrays.asList("product_name.ngram^1.5", "product_brand.ngram^1.5", "product_description.ngram^0.5");
-        // 별점 필터링
-        Query byRating = ESUtil.filterByRating(star);
-        // product_sale_price 필터링
-        Query byPrice = ESUtil.fileterByPrice(minPrice, maxPrice);
-        // 검색어 필터링
-        Query byName = ESUtil.filterBySearch(fields, query);
-        // 검색어 필터링 nori
-        Query byNoriname = ESUtil.filterByNoriSearch(noriFields, query);
-        // 검색어 필터링 ngram
-        Query byNgramName = ESUtil.filterByNgramSearch(ngramFields, query);
-
-        SortOptions sort1 = new SortOptions.Builder().field(f -> f.field("_score").order(SortOrder.Desc)).build();
-        SortOptions sort2 = new SortOptions.Builder().field(f -> f.field(sorter).order(SortOrder.Desc)).build();
-        List<SortOptions> sortList = new ArrayList<SortOptions>();
-        sortList.add(sort2); sortList.add(sort1);
-
         // 검색
         SearchResponse<ProductDocument> response = client.search(s -> s
-                        .index("new-product")
+                        .index(ESUtil.PRODUCT_INDEX)
                         .from(pageNo * PAGE_SIZE)
                         .size(PAGE_SIZE)
-                        .minScore(10.0)
-                        .query(q -> q
-                                .bool(b -> b
-                                        .should(byName)
-                                        .should(byNoriname)
-                                        .should(byNgramName)
-                                        .minimumShouldMatch("1")
-                                        .must(byPrice)
-                                        .must(byRating)
-                                )
-                        )
-                        .sort(sortList),ProductDocument.class
+                        .minScore(MIN_SCORE)
+                        .query(buildSearchQuery(query, minPrice, maxPrice, star))
+                        .sort(buildSortList(sorter)),ProductDocument.class
         );
     int totalValues = (int)response.hits().total().value();
     int totalPages = getTotalPages(totalValues);
@@ -125,8 +107,49 @@ public class ElasticsearchService {
     return new ProductResDto.ProductSearchListResDto(totalPages, getResponse(response, productList));
     }
 
-    public ProductResDto.ProductSearchListResDto getElasticSearchProductsReviewORder(int pageNo, String query, String sorter,
-                                                                          Integer minPrice, Integer maxPrice, Float star) throws IOException {
+    // 커서 기반 검색 (point in time + search_after)
+    public ProductResDto.ProductSearchCursorResDto getElasticSearchProductsByCursor(String cursor, String query, String sorter,
+                                                                                    Integer minPrice, Integer maxPrice, Float star) throws IOException {
+        SearchCursor searchCursor = decodeCursor(cursor);
+        String pitId = searchCursor == null ? openPointInTime() : searchCursor.getPitId();
+        List<FieldValue> searchAfter = searchCursor == null ? null : toFieldValues(searchCursor.getSort());
+
+        SearchResponse<ProductDocument> response;
+        try {
+            response = client.search(s -> {
+                s.pit(p -> p.id(pitId).keepAlive(k -> k.time(PIT_KEEP_ALIVE)))
+                        .size(PAGE_SIZE)
+                        .minScore(MIN_SCORE)
+                        .trackTotalHits(t -> t.enabled(true))
+                        .query(buildSearchQuery(query, minPrice, maxPrice, star))
+                        .sort(buildSortList(sorter));
+                if (searchAfter != null) {
+                    s.searchAfter(searchAfter);
+                }
+                return s;
+            }, ProductDocument.class);
+        } catch (ElasticsearchException e) {
+            // 만료된 point in time
+            if (e.status() == 404) {
+                throw new BadRequestException(INVALID_SEARCH_CURSOR);
+            }
+            throw e;
+        }
+
+        List<Hit<ProductDocument>> hits = response.hits().hits();
+        int totalValues = (int) response.hits().total().value();
+        String nextCursor = null;
+        if (hits.size() == PAGE_SIZE) {
+            nextCursor = encodeCursor(new SearchCursor(response.pitId(), toSortValues(hits.get(hits.size() - 1).sort())));
+        } else {
+            // 마지막 페이지면 point in time 정리
+            closePointInTime(response.pitId());
+        }
+        return new ProductResDto.ProductSearchCursorResDto(getTotalPages(totalValues), totalValues, nextCursor,
+                getResponse(response, new ArrayList<>()));
+    }
+
+    private Query buildSearchQuery(String query, Integer minPrice, Integer maxPrice, Float star) {
         List<String> fields = Arrays.asList("product_name^2", "product_brand^2", "product_description^1");
         List<String> noriFields = Arrays.asList("product_name.nori^2", "product_brand.nori^2", "product_description.nori^1");
         List<String> ngramFields = Arrays.asList("product_name.ngram^1.5", "product_brand.ngram^1.5", "product_description.ngram^0.5");
@@ -141,90 +164,99 @@ public class ElasticsearchService {
         // 검색어 필터링 ngram
         Query byNgramName = ESUtil.filterByNgramSearch(ngramFields, query);
 
-        // 검색
-        SearchResponse<ProductDocument> response = client.search(s -> s
-                .index("new-product")
-                .size(5000)
-                .minScore(10.0)
-                .query(q -> q
-                        .bool(b -> b
-                                .should(byName)
-                                .should(byNoriname)
-                                .should(byNgramName)
-                                .minimumShouldMatch("1")
-                                .must(byPrice)
-                                .must(byRating)
-                        )
+        return Query.of(q -> q
+                .bool(b -> b
+                        .should(byName)
+                        .should(byNoriname)
+                        .should(byNgramName)
+                        .minimumShouldMatch("1")
+                        .must(byPrice)
+                        .must(byRating)
                 )
-                .sort(so -> so
-                        .field(f -> f
-                                .field("_score")
-                                .order(SortOrder.Desc))
-                ),ProductDocument.class
         );
-        int totalValues = (int)response.hits().total().value();
-
-        productSearchList = getResponse(response, productSearchList);
-        quickSort(0,productSearchList.size()-1);
-
-        Pageable pageable = PageRequest.of(pageNo, PAGE_SIZE);
-        int start = (int)pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()),totalValues);
-        Page<ProductCommonDto.ProductSearchListDto> productList = new PageImpl<>
-                (productSearchList.subList(start,end), pageable, totalValues);
-        productSearchList = new ArrayList<>();
-
-        return new ProductResDto.ProductSearchListResDto(productList.getTotalPages(), productList.getContent());
-    }
-
-
-    public static void quickSort(int start, int end) {
-        // start가 end보다 크거나 같다면 정렬할 원소가 1개 이하이므로 정렬하지 않고 반환
-        if (start >= end)
-            return;
-
-        // 가장 왼쪽의 값을 pivot으로 지정하고 실제 비교 검사는 start+1 부터 시작
-        int pivot = start;
-        int lo = start + 1;
-        int hi = end; // 정렬의 마지막 값 지정
-        ProductCommonDto.ProductSearchListDto temp;
-
-        // lo는 현재 부분배열의 왼쪽, hi는 오른쪽을 의미
-        // lo가 hi보다 커질 경우 while문 종료
-        while (lo <= hi) {
-            // lo번째 간선의 비용이 pivot번째 간선의 비용보다 큰 값일 때까지 반복
-            while (lo <= end && productSearchList.get(lo).getProductReviewCount() >= productSearchList.get(pivot).getProductReviewCount())
-                lo++;
-            // hi번째 간선의 비용이 pivot번째 간선의 비용보다 작은 값일 때까지 반복
-            while (hi > start && productSearchList.get(hi).getProductReviewCount() <= productSearchList.get(pivot).getProductReviewCount())
-                hi--;
-            // 엇갈리면 hi간선과 피벗 index의 간선 교체
-            if (lo > hi) {
-                temp = productSearchList.get(hi);
-                productSearchList.set(hi, productSearchList.get(pivot));
-                productSearchList.set(pivot, temp);
-            }
-            // 엇갈리지 않으면 lo와 hi 간선 교체
-            else {
-                temp = productSearchList.get(lo);
-                productSearchList.set(lo, productSearchList.get(hi));
-                productSearchList.set(hi, temp);
+    }
+
+    private List<SortOptions> buildSortList(String sorter) {
+        SortOptions sort1 = new SortOptions.Builder().field(f -> f.field("_score").order(SortOrder.Desc)).build();
+        // review_count가 아직 없는 문서는 정렬 시 맨 뒤로
+        SortOptions sort2 = new SortOptions.Builder().field(f -> f
+                .field(sorter)
+                .order(SortOrder.Desc)
+                .unmappedType(FieldType.Integer)
+                .missing("_last")).build();
+        List<SortOptions> sortList = new ArrayList<SortOptions>();
+        sortList.add(sort2); sortList.add(sort1);
+        return sortList;
+    }
+
+    private String openPointInTime() throws IOException {
+        return client.openPointInTime(o -> o
+                .index(ESUtil.PRODUCT_INDEX)
+                .keepAlive(k -> k.time(PIT_KEEP_ALIVE))).id();
+    }
+
+    private void closePointInTime(String pitId) {
+        try {
+            client.closePointInTime(c -> c.id(pitId));
+        } catch (IOException | ElasticsearchException e) {
+            // keep_alive 이후 자동으로 정리되므로 로그만 남김
+            log.warn("[ElasticsearchService] point in time 정리 실패", e);
+        }
+    }
+
+    // 커서 형식 확인 (검색 호출 전에 잘못된 커서를 거르기 위함)
+    public void validateCursor(String cursor) {
+        decodeCursor(cursor);
+    }
+
+    // 커서 -> point in time id + 마지막 문서의 정렬 값
+    private SearchCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            SearchCursor searchCursor = objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), SearchCursor.class);
+            if (searchCursor.getPitId() == null || searchCursor.getSort() == null) {
+                throw new BadRequestException(INVALID_SEARCH_CURSOR);
             }
+            return searchCursor;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new BadRequestException(INVALID_SEARCH_CURSOR);
         }
+    }
 
-        // 엇갈렸을 경우, 피벗값과 hi값을 교체한 후 해당 피벗을 기준으로 앞 뒤로 배열을 분할하여 정렬 반복 진행
-        quickSort(start, hi - 1);
-        quickSort(hi + 1, end);
+    private String encodeCursor(SearchCursor searchCursor) throws IOException {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(searchCursor));
     }
 
-    public int getTotalPages(int totalValues){
-        int totalPages;
-        if(totalValues > 0 && totalValues < PAGE_SIZE ){
-            totalPages = 1;
-        }else{
-            totalPages=totalValues/PAGE_SIZE;
+    private List<Object> toSortValues(List<FieldValue> sort) {
+        List<Object> values = new ArrayList<>();
+        for (FieldValue value : sort) {
+            values.add(value.isNull() ? null : value._get());
+        }
+        return values;
+    }
+
+    private List<FieldValue> toFieldValues(List<Object> values) {
+        List<FieldValue> sort = new ArrayList<>();
+        for (Object value : values) {
+            if (value == null) {
+                sort.add(FieldValue.NULL);
+            } else if (value instanceof Double || value instanceof Float) {
+                sort.add(FieldValue.of(((Number) value).doubleValue()));
+            } else if (value instanceof Number) {
+                sort.add(FieldValue.of(((Number) value).longValue()));
+            } else if (value instanceof Boolean) {
+                sort.add(FieldValue.of((Boolean) value));
+            } else {
+                sort.add(FieldValue.of(value.toString()));
+            }
         }
-        return totalPages;
+        return sort;
+    }
+
+    public int getTotalPages(int totalValues){
+        return (totalValues + PAGE_SIZE - 1) / PAGE_SIZE;
     }
 
     public List<ProductCommonDto.ProductSearchListDto> getResponse(SearchResponse<ProductDocument> response,
@@ -238,8 +270,23 @@ public class ElasticsearchService {
                     hit.source().getProduct_sale_price(),
                     hit.source().getProduct_discount_rate(),
                     hit.source().getProduct_rating(),
-                    hit.source().getReview_enriched()==null ? 0 : hit.source().getReview_enriched().size()));
+                    getReviewCount(hit.source())));
         }
         return productList;
     }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SearchCursor {
+        private String pitId;
+        private List<Object> sort;
+    }
+
+    private int getReviewCount(ProductDocument document) {
+        if (document.getReview_count() != null) {
+            return document.getReview_count();
+        }
+        return document.getReview_enriched() == null ? 0 : document.getReview_enriched().size();
+    }
 }
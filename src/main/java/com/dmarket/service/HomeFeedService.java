@@ -0,0 +1,313 @@
+package com.dmarket.service;
+
+import com.dmarket.domain.product.Product;
+import com.dmarket.domain.product.ProductImgs;
+import com.dmarket.dto.response.ProductResDto;
+import com.dmarket.event.ProductChangeEvent;
+import com.dmarket.repository.product.ProductImgsRepository;
+import com.dmarket.repository.product.ProductOptionRepository;
+import com.dmarket.repository.product.ProductRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 홈 화면 상품 레일 (신상품, 할인율 높은 상품)
+ * - 카테고리마다 정렬 기준 상위 상품만 담은 크기 제한 정렬 집합을 메모리에 유지
+ * - 상품/옵션/이미지 변경 커밋 후 해당 상품만 다시 넣고, 영향을 받은 카테고리(와 상위 카테고리, 전체) 스냅샷만 다시 만듦
+ * - 조회는 불변 리스트 스냅샷을 그대로 반환하므로 요청 시 상품 테이블을 조회하지 않음
+ * - home.feed.pre-serialized가 켜져 있으면 상품 카드 JSON을 항목 생성 시 한 번만 만들고 응답은 바이트 복사로 조립
+ * - 인스턴스마다 이벤트를 받으므로 다른 인스턴스의 변경은 주기적인 전체 재적재로 맞춤
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HomeFeedService {
+
+    // 전체 카테고리 스냅샷 키
+    private static final Long ALL_CATEGORIES = 0L;
+    // 카드는 필드를 직접 쓰므로 설정 없는 기본 매퍼로 충분
+    private static final ObjectMapper CARD_MAPPER = new ObjectMapper();
+
+    private final ProductRepository productRepository;
+    private final ProductImgsRepository productImgsRepository;
+    private final ProductOptionRepository productOptionRepository;
+    private final CategoryTree categoryTree;
+
+    // 레일 최대 노출 개수 (카테고리별로 이 개수의 2배까지 보관)
+    @Value("${home.feed.size:32}")
+    private int size;
+
+    // 상품 카드 JSON을 상품 버전(레일 항목)마다 미리 직렬화해 둘지 여부
+    @Value("${home.feed.pre-serialized:false}")
+    private boolean preSerialized;
+
+    // 레일 -> 카테고리 번호 -> 상위 상품 (변경은 synchronized 메서드 안에서만)
+    private final Map<Rail, Map<Long, TopN>> heaps = new EnumMap<>(Rail.class);
+    // 레일 -> 상품 번호 -> 보관 중인 카테고리 번호
+    private final Map<Rail, Map<Long, Long>> members = new EnumMap<>(Rail.class);
+    // 레일 -> 카테고리 번호(전체는 0) -> 응답용 불변 리스트
+    private volatile Map<Rail, Map<Long, List<ProductResDto.ProductCardResDto>>> snapshots = Map.of();
+
+    // 신상품 limit개
+    public List<ProductResDto.ProductCardResDto> getNewProducts(int limit) {
+        return find(Rail.NEW, ALL_CATEGORIES, limit);
+    }
+
+    // 할인율 높은 상품 limit개 (전체 카테고리)
+    public List<ProductResDto.ProductCardResDto> getTopDiscountProducts(int limit) {
+        return find(Rail.DISCOUNT, ALL_CATEGORIES, limit);
+    }
+
+    // 할인율 높은 상품 limit개 (하위 카테고리 포함)
+    public List<ProductResDto.ProductCardResDto> getTopDiscountProducts(Long categoryId, int limit) {
+        return find(Rail.DISCOUNT, categoryId, limit);
+    }
+
+    // 시작 시, 그리고 주기적으로 전체 다시 적재
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${home.feed.rebuild-interval-ms:600000}", initialDelayString = "${home.feed.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        for (Rail rail : Rail.values()) {
+            Map<Long, TopN> railHeaps = new HashMap<>();
+            for (Long categoryId : categoryTree.getAllIds()) {
+                railHeaps.put(categoryId, loadTopN(rail, categoryId));
+            }
+            Map<Long, Long> railMembers = new HashMap<>();
+            railHeaps.forEach((categoryId, topN) -> topN.entries.keySet().forEach(productId -> railMembers.put(productId, categoryId)));
+            heaps.put(rail, railHeaps);
+            members.put(rail, railMembers);
+        }
+        publishSnapshots(null);
+        log.info("[HomeFeedService] 홈 화면 레일 적재 완료: 카테고리 {}개", categoryTree.getAllIds().size());
+    }
+
+    // 상품 정보/옵션/이미지 변경 커밋 후 해당 상품만 반영
+    @TransactionalEventListener(fallbackExecution = true, condition = "#event.type.name() matches 'PRODUCT|OPTION|IMAGE'")
+    public synchronized void onProductChange(ProductChangeEvent event) {
+        if (heaps.isEmpty()) {
+            return;
+        }
+        Long productId = event.getProductId();
+        Product product = productRepository.findById(productId).orElse(null);
+        boolean listed = product != null && categoryTree.contains(product.getCategoryId())
+                && productOptionRepository.existsByProductId(productId);
+        Entry entry = listed ? toEntries(List.of(product)).get(0) : null;
+
+        Set<Long> touched = new HashSet<>();
+        for (Rail rail : Rail.values()) {
+            Map<Long, TopN> railHeaps = heaps.get(rail);
+            Map<Long, Long> railMembers = members.get(rail);
+
+            Long previousCategoryId = railMembers.remove(productId);
+            if (previousCategoryId != null) {
+                railHeaps.get(previousCategoryId).remove(productId);
+                touched.add(previousCategoryId);
+            }
+            if (entry != null) {
+                TopN topN = railHeaps.computeIfAbsent(entry.categoryId, id -> new TopN(rail, true));
+                topN.offer(entry, capacity()).ifPresent(railMembers::remove);
+                if (topN.entries.containsKey(productId)) {
+                    railMembers.put(productId, entry.categoryId);
+                }
+                touched.add(entry.categoryId);
+            }
+
+            // 일부만 보관 중인 카테고리가 노출 개수보다 줄어들면 DB에서 다시 채움
+            for (Long categoryId : touched) {
+                TopN topN = railHeaps.get(categoryId);
+                if (topN != null && !topN.complete && topN.entries.size() < size) {
+                    topN.entries.keySet().forEach(railMembers::remove);
+                    TopN reloaded = loadTopN(rail, categoryId);
+                    reloaded.entries.keySet().forEach(id -> railMembers.put(id, categoryId));
+                    railHeaps.put(categoryId, reloaded);
+                }
+            }
+        }
+        publishSnapshots(touched);
+    }
+
+    private List<ProductResDto.ProductCardResDto> find(Rail rail, Long categoryId, int limit) {
+        List<ProductResDto.ProductCardResDto> products = snapshots.getOrDefault(rail, Map.of()).getOrDefault(categoryId, List.of());
+        return limit >= products.size() ? products : products.subList(0, Math.max(limit, 0));
+    }
+
+    // 카테고리(와 상위 카테고리, 전체) 스냅샷 다시 생성 (categoryIds가 null이면 전체)
+    private void publishSnapshots(Collection<Long> categoryIds) {
+        Set<Long> targets = new HashSet<>();
+        if (categoryIds == null) {
+            targets.addAll(categoryTree.getAllIds());
+        } else {
+            for (Long categoryId : categoryIds) {
+                categoryTree.getPath(categoryId).forEach(node -> targets.add(node.getCategoryId()));
+            }
+        }
+
+        Map<Rail, Map<Long, List<ProductResDto.ProductCardResDto>>> next = new EnumMap<>(Rail.class);
+        for (Rail rail : Rail.values()) {
+            Map<Long, List<ProductResDto.ProductCardResDto>> railSnapshots = new HashMap<>(snapshots.getOrDefault(rail, Map.of()));
+            Map<Long, TopN> railHeaps = heaps.get(rail);
+            for (Long categoryId : targets) {
+                railSnapshots.put(categoryId, merge(rail, categoryTree.getSubtreeIds(categoryId).stream().map(railHeaps::get).toList()));
+            }
+            railSnapshots.put(ALL_CATEGORIES, merge(rail, railHeaps.values()));
+            next.put(rail, Collections.unmodifiableMap(railSnapshots));
+        }
+        snapshots = Collections.unmodifiableMap(next);
+    }
+
+    // 여러 카테고리의 상위 상품을 합쳐 상위 size개 (각 카테고리가 size개 이상 보관하므로 정확함)
+    private List<ProductResDto.ProductCardResDto> merge(Rail rail, Collection<TopN> topNs) {
+        List<Entry> entries = new ArrayList<>();
+        for (TopN topN : topNs) {
+            if (topN != null) {
+                entries.addAll(topN.sorted);
+            }
+        }
+        return entries.stream()
+                .sorted(rail.comparator)
+                .limit(size)
+                .map(entry -> entry.card)
+                .toList();
+    }
+
+    private TopN loadTopN(Rail rail, Long categoryId) {
+        List<Product> products = productRepository.findHomeFeedCandidates(categoryId, PageRequest.of(0, capacity(), rail.sort));
+        TopN topN = new TopN(rail, true);
+        for (Entry entry : toEntries(products)) {
+            topN.offer(entry, capacity());
+        }
+        topN.complete = products.size() < capacity();
+        return topN;
+    }
+
+    // 상품 목록을 레일 항목으로 변환 (대표 이미지는 IN 쿼리로 한 번에 조회, 먼저 등록된 이미지)
+    private List<Entry> toEntries(List<Product> products) {
+        if (products.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, String> imgs = new HashMap<>();
+        productImgsRepository.findAllByProductIdIn(products.stream().map(Product::getProductId).toList()).stream()
+                .sorted(Comparator.comparing(ProductImgs::getImgId))
+                .forEach(img -> imgs.putIfAbsent(img.getProductId(), img.getImgAddress()));
+
+        List<Entry> entries = new ArrayList<>();
+        for (Product product : products) {
+            entries.add(new Entry(product, toCard(product, imgs.get(product.getProductId()))));
+        }
+        return entries;
+    }
+
+    // 상품 카드 생성 (미리 직렬화 모드면 이 버전의 JSON 바이트를 카드에 붙여 응답마다 그대로 씀)
+    private ProductResDto.ProductCardResDto toCard(Product product, String productImg) {
+        ProductResDto.ProductCardResDto card = ProductResDto.ProductCardResDto.of(product, productImg);
+        if (!preSerialized) {
+            return card;
+        }
+        try {
+            SerializedString json = new SerializedString(CARD_MAPPER.writeValueAsString(card));
+            json.asUnquotedUTF8();
+            return card.withJson(json);
+        } catch (JsonProcessingException e) {
+            log.warn("[HomeFeedService] 상품 카드 직렬화 실패: productId={}", product.getProductId(), e);
+            return card;
+        }
+    }
+
+    private int capacity() {
+        return size * 2;
+    }
+
+    private enum Rail {
+        NEW(Comparator.comparing((Entry entry) -> entry.createdDate, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(entry -> entry.productId, Comparator.reverseOrder()),
+                Sort.by(Sort.Direction.DESC, "productCreatedDate", "productId")),
+        DISCOUNT(Comparator.comparing((Entry entry) -> entry.discountRate, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(entry -> entry.productId, Comparator.reverseOrder()),
+                Sort.by(Sort.Direction.DESC, "productDiscountRate", "productId"));
+
+        private final Comparator<Entry> comparator;
+        private final Sort sort;
+
+        Rail(Comparator<Entry> comparator, Sort sort) {
+            this.comparator = comparator;
+            this.sort = sort;
+        }
+    }
+
+    private static class Entry {
+        private final Long productId;
+        private final Long categoryId;
+        private final LocalDateTime createdDate;
+        private final Integer discountRate;
+        private final ProductResDto.ProductCardResDto card;
+
+        private Entry(Product product, ProductResDto.ProductCardResDto card) {
+            this.productId = product.getProductId();
+            this.categoryId = product.getCategoryId();
+            this.createdDate = product.getProductCreatedDate();
+            this.discountRate = product.getProductDiscountRate();
+            this.card = card;
+        }
+    }
+
+    // 한 카테고리의 상위 상품 (complete: 카테고리 상품을 전부 보관 중인지 여부)
+    private static class TopN {
+        private final TreeSet<Entry> sorted;
+        private final Map<Long, Entry> entries = new HashMap<>();
+        private boolean complete;
+
+        private TopN(Rail rail, boolean complete) {
+            this.sorted = new TreeSet<>(rail.comparator);
+            this.complete = complete;
+        }
+
+        // 상위권이면 추가하고, 용량을 넘겨 밀려난 상품 번호 반환
+        private Optional<Long> offer(Entry entry, int capacity) {
+            // 일부만 보관 중이면 보관 중인 마지막 상품보다 뒤인 상품은 밖에 더 앞선 상품이 있을 수 있으므로 넣지 않음
+            if (!complete && (sorted.isEmpty() || sorted.comparator().compare(entry, sorted.last()) > 0)) {
+                return Optional.empty();
+            }
+            sorted.add(entry);
+            entries.put(entry.productId, entry);
+            if (sorted.size() > capacity) {
+                Entry evicted = sorted.pollLast();
+                entries.remove(evicted.productId);
+                complete = false;
+                return Optional.of(evicted.productId);
+            }
+            return Optional.empty();
+        }
+
+        private void remove(Long productId) {
+            Entry entry = entries.remove(productId);
+            if (entry != null) {
+                sorted.remove(entry);
+            }
+        }
+    }
+}
@@ -4,29 +4,37 @@ import com.dmarket.constant.MileageContents;
 import com.dmarket.constant.OrderDetailState;
 import com.dmarket.domain.order.Order;
 import com.dmarket.domain.order.OrderDetail;
-import com.dmarket.domain.product.Product;
 import com.dmarket.domain.product.ProductOption;
-import com.dmarket.domain.user.Cart;
 import com.dmarket.domain.user.User;
 import com.dmarket.dto.request.OrderReqDto;
 import com.dmarket.dto.request.ProductReqDto;
 import com.dmarket.dto.response.OrderResDto;
 import com.dmarket.dto.response.ProductResDto;
+import com.dmarket.event.AfterCommit;
+import com.dmarket.exception.ConflictException;
+import com.dmarket.exception.NotFoundException;
 import com.dmarket.jwt.JWTUtil;
 import com.dmarket.repository.order.OrderDetailRepository;
 import com.dmarket.repository.order.OrderRepository;
-import com.dmarket.repository.product.ProductImgsRepository;
-import com.dmarket.repository.user.CartRepository;
+import com.dmarket.repository.product.ProductOptionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.dmarket.exception.ErrorCode.OPTION_NOT_FOUND;
+import static com.dmarket.exception.ErrorCode.PRICE_CHANGED;
 
 @Slf4j
 @Service
@@ -37,44 +45,42 @@ public class OrderService {
     //조회가 아닌 메서드들은 꼭 @Transactional 넣어주세요 (CUD, 입력/수정/삭제)
 
     private final UserService userService;
-    private final ProductService productService;
+    private final StockReservationService stockReservationService;
+    private final PricingService pricingService;
+    private final CartStoreService cartStoreService;
 
-    private final CartRepository cartRepository;
     private final OrderRepository orderRepository;
     private final OrderDetailRepository orderDetailRepository;
-    private final ProductImgsRepository productImgsRepository;
+    private final ProductOptionRepository productOptionRepository;
 
     private final JWTUtil jwtUtil;
 
     // 결제할 상품 조회
     public ProductResDto.ProductToOrderRespDto getProductToOrder(ProductReqDto.ProductToOrderReqDto dto) {
 
-        Integer totalPrice = 0;
-        Integer totalPay = 0;
         ProductResDto.ProductToOrderRespDto respDto = new ProductResDto.ProductToOrderRespDto();
         ArrayList<ProductResDto.ProductToOrderRespDto.ProductToOrder> productList = new ArrayList<>();
         List<ProductReqDto.ProductToOrderReqDto.ProductToOrder> products = dto.getProductList();
 
-        for (ProductReqDto.ProductToOrderReqDto.ProductToOrder productToOrder : products) {
+        //가격 계산 및 옵션 일괄 조회
+        PricingService.PricedBasket basket = pricingService.priceBasket(products.stream()
+                .map(product -> new PricingService.BasketItem(product.getProductId(), product.getOptionId(), product.getProductCount()))
+                .toList());
+        Map<Long, ProductOption> optionMap = findOptionMap(basket);
 
-            Long productId = productToOrder.getProductId();
-            Integer productCount = productToOrder.getProductCount();
-            Long optionId = productToOrder.getOptionId();
-            Product product = productService.findProductById(productId);
+        for (PricingService.PricedItem item : basket.getItems()) {
+            PricingService.PriceSnapshot snapshot = item.getSnapshot();
 
             ProductResDto.ProductToOrderRespDto.ProductToOrder productDetail = new ProductResDto.ProductToOrderRespDto.ProductToOrder();
-            productDetail.setProductId(productId);
-            productDetail.setProductBrand(product.getProductBrand());
-            productDetail.setProductName(product.getProductName());
-            productDetail.setOptionId(optionId);
-            productDetail.setProductOption(productService.findOptionByOptionId(optionId).getOptionValue());
-            productDetail.setProductCount(productCount);
-            productDetail.setProductImg(productImgsRepository.findFirstByProductId(productId).getImgAddress());
-            productDetail.setProductTotalPrice(product.getProductPrice() * productCount);
-            productDetail.setProductTotalSalePrice(product.getProductSalePrice() * productCount);
-
-            totalPrice += product.getProductPrice() * productCount;
-            totalPay += product.getProductSalePrice() * productCount;
+            productDetail.setProductId(item.getProductId());
+            productDetail.setProductBrand(snapshot.getProductBrand());
+            productDetail.setProductName(snapshot.getProductName());
+            productDetail.setOptionId(item.getOptionId());
+            productDetail.setProductOption(optionMap.get(item.getOptionId()).getOptionValue());
+            productDetail.setProductCount(item.getCount());
+            productDetail.setProductImg(snapshot.getProductImg());
+            productDetail.setProductTotalPrice(item.getTotalPrice());
+            productDetail.setProductTotalSalePrice(item.getTotalSalePrice());
             productList.add(productDetail);
         }
 
@@ -85,8 +91,8 @@ public class OrderService {
         respDto.setUserPostalCode(user.getUserPostalCode());
         respDto.setUserAddress(user.getUserAddress());
         respDto.setUserDetailAddress(user.getUserAddressDetail());
-        respDto.setTotalPrice(totalPrice);
-        respDto.setTotalPay(totalPay);
+        respDto.setTotalPrice(basket.getTotalPrice());
+        respDto.setTotalPay(basket.getTotalPay());
         respDto.setProductList(productList);
 
         return respDto;
@@ -98,8 +104,6 @@ public class OrderService {
 
         //DTO 데이터 추출
         Long userId = dto.getUserId();
-        Integer orderTotalPrice = dto.getOrderTotalPrice();
-        Integer orderTotalPay = dto.getOrderTotalPay();
         OrderReqDto.OrderPaymentReqDto.OrderDetail[] productList = dto.getOrderDetailList();
 
         //본인이 맞는지 확인
@@ -107,6 +111,21 @@ public class OrderService {
          * bizLogic
          */
 
+        //서버에서 금액 계산 후 클라이언트 금액과 비교
+        PricingService.PricedBasket basket = pricingService.priceBasket(Arrays.stream(productList)
+                .map(detail -> new PricingService.BasketItem(detail.getProductId(), detail.getOptionId(), detail.getOrderDetailCount()))
+                .toList());
+        Integer orderTotalPrice = basket.getTotalPrice();
+        Integer orderTotalPay = basket.getTotalPay();
+        if (!orderTotalPrice.equals(dto.getOrderTotalPrice()) || !orderTotalPay.equals(dto.getOrderTotalPay())) {
+            log.warn("[OrderService] 주문 금액 불일치: userId={}, 요청 금액={}/{}, 계산 금액={}/{}",
+                    userId, dto.getOrderTotalPrice(), dto.getOrderTotalPay(), orderTotalPrice, orderTotalPay);
+            throw new ConflictException(PRICE_CHANGED);
+        }
+
+        //주문 옵션 일괄 조회 (IN 쿼리 1회)
+        Map<Long, ProductOption> optionMap = findOptionMap(basket);
+
         //잔액과 비교하여 결제 가능한지 확인
         User user = userService.findUserById(userId);
         Integer userMileage = user.getUserMileage();
@@ -124,26 +143,23 @@ public class OrderService {
         //Order 생성
         Long orderId = createOrder(userId, orderTotalPrice, orderTotalPay, now);
 
-        //OrderDetail 생성
-        for (OrderReqDto.OrderPaymentReqDto.OrderDetail orderDetail : productList) {
-            //주문 상세 데이터 추출
-            Long productId = orderDetail.getProductId();
-            Long optionId = orderDetail.getOptionId();
-            Integer orderDetailCount = orderDetail.getOrderDetailCount();
-            Integer orderDetailPrice = orderDetail.getOrderDetailPrice();
-            Integer orderDetailSalePrice = orderDetail.getOrderDetailSalePrice();
-
-            createOrderDetail(orderId, optionId, productId, orderDetailCount, orderDetailPrice, orderDetailSalePrice);
-
-            //장바구니에서 주문한 상품 제거
-            Optional<Cart> cartOptional = cartRepository.findByUserIdAndOptionId(userId, optionId);
-            if (cartOptional.isPresent()) {
-                Cart cart = cartOptional.get();
-                Long cartId = cart.getCartId();
-                userService.deleteCartByCartId(cartId);
-                log.debug("[OrderService] 장바구니에서 주문한 상품 삭제: userId={}, cartId={}, optionId={}", userId, cartId, optionId);
-            }
+        //OrderDetail 생성 후 배치 insert
+        List<OrderDetail> orderDetails = new ArrayList<>();
+        for (PricingService.PricedItem item : basket.getItems()) {
+            reserveStock(item.getOptionId(), item.getCount());
+            orderDetails.add(OrderDetail.builder()
+                    .orderId(orderId)
+                    .optionId(item.getOptionId())
+                    .productId(item.getProductId())
+                    .orderDetailState(OrderDetailState.ORDER_COMPLETE)
+                    .orderDetailCount(item.getCount())
+                    .orderDetailPrice(item.getTotalPrice())
+                    .orderDetailSalePrice(item.getTotalSalePrice()).build());
         }
+        orderDetailRepository.saveAll(orderDetails);
+
+        //주문 커밋 후 장바구니에서 주문한 상품 일괄 제거
+        removeOrderedCarts(userId, new ArrayList<>(optionMap.keySet()));
 
         //반환
         OrderResDto<String> resDto = new OrderResDto<>();
@@ -164,18 +180,40 @@ public class OrderService {
         return orderRepository.save(order).getOrderId();
     }
 
-    @Transactional
-    public Long createOrderDetail(Long orderId, Long optionId, Long productId, Integer orderDetailCount, Integer orderDetailPrice, Integer orderDetailSalePrice) {
-        OrderDetail orderDetail = OrderDetail.builder()
-                .orderId(orderId)
-                .optionId(optionId)
-                .productId(productId)
-                .orderDetailState(OrderDetailState.ORDER_COMPLETE)
-                .orderDetailCount(orderDetailCount)
-                .orderDetailPrice(orderDetailPrice)
-                .orderDetailSalePrice(orderDetailSalePrice).build();
-        ProductOption option = productService.findOptionByOptionId(optionId);
-        option.removeOptionQuantity(orderDetailCount);
-        return orderDetailRepository.save(orderDetail).getOrderDetailId();
+    // 주문 옵션 일괄 조회 후 상품과 일치하는지 확인
+    private Map<Long, ProductOption> findOptionMap(PricingService.PricedBasket basket) {
+        List<Long> optionIds = basket.getItems().stream().map(PricingService.PricedItem::getOptionId).toList();
+        Map<Long, ProductOption> optionMap = productOptionRepository.findAllById(optionIds).stream()
+                .collect(Collectors.toMap(ProductOption::getOptionId, Function.identity()));
+        for (PricingService.PricedItem item : basket.getItems()) {
+            ProductOption option = optionMap.get(item.getOptionId());
+            if (option == null || !option.getProductId().equals(item.getProductId())) {
+                throw new NotFoundException(OPTION_NOT_FOUND);
+            }
+        }
+        return optionMap;
+    }
+
+    // 재고 예약 후 트랜잭션 커밋 시 확정, 롤백 시 재고 복구
+    private void reserveStock(Long optionId, Integer count) {
+        Long reservationId = stockReservationService.reserve(optionId, count);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    stockReservationService.confirm(reservationId);
+                } else {
+                    stockReservationService.release(reservationId);
+                }
+            }
+        });
+    }
+
+    // 장바구니 저장소는 DB 트랜잭션 밖(Redis)이므로 주문이 커밋된 뒤에만 제거
+    private void removeOrderedCarts(Long userId, List<Long> optionIds) {
+        AfterCommit.run(() -> {
+            int deletedCartCount = cartStoreService.remove(userId, optionIds);
+            log.debug("[OrderService] 장바구니에서 주문한 상품 삭제: userId={}, count={}", userId, deletedCartCount);
+        });
     }
 }
@@ -0,0 +1,159 @@
+package com.dmarket.service;
+
+import com.dmarket.domain.product.Product;
+import com.dmarket.domain.product.ProductImgs;
+import com.dmarket.event.AfterCommit;
+import com.dmarket.exception.NotFoundException;
+import com.dmarket.repository.product.ProductImgsRepository;
+import com.dmarket.repository.product.ProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.dmarket.exception.ErrorCode.PRODUCT_NOT_FOUND;
+
+/**
+ * 주문 금액 계산
+ * - 상품 가격은 짧은 TTL의 인메모리 캐시에서 조회하고, 없는 상품만 IN 쿼리로 한 번에 불러옴
+ * - 주문 미리보기와 결제 모두 이 계산 결과를 사용 (클라이언트 금액은 신뢰하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PricingService {
+
+    private final ProductRepository productRepository;
+    private final ProductImgsRepository productImgsRepository;
+
+    @Value("${pricing.cache.ttl-seconds:30}")
+    private long cacheTtlSeconds;
+
+    @Value("${pricing.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    private Cache<Long, PriceSnapshot> priceCache;
+
+    @PostConstruct
+    public void init() {
+        priceCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .maximumSize(cacheMaxSize)
+                .build();
+    }
+
+    // 상품별 가격 스냅샷 조회
+    public Map<Long, PriceSnapshot> getPriceSnapshots(Collection<Long> productIds) {
+        Set<Long> ids = new LinkedHashSet<>(productIds);
+        Map<Long, PriceSnapshot> snapshots = priceCache.getAll(ids, this::loadPriceSnapshots);
+        if (snapshots.size() < ids.size()) {
+            throw new NotFoundException(PRODUCT_NOT_FOUND);
+        }
+        return snapshots;
+    }
+
+    // 장바구니 금액 계산
+    public PricedBasket priceBasket(List<BasketItem> items) {
+        Map<Long, PriceSnapshot> snapshots = getPriceSnapshots(items.stream().map(BasketItem::getProductId).toList());
+
+        List<PricedItem> pricedItems = new ArrayList<>();
+        int totalPrice = 0;
+        int totalPay = 0;
+        for (BasketItem item : items) {
+            Integer count = item.getCount();
+            if (count == null || count <= 0) {
+                throw new IllegalArgumentException("주문 수량을 확인하세요. productId=" + item.getProductId());
+            }
+            PriceSnapshot snapshot = snapshots.get(item.getProductId());
+            int itemTotalPrice = Math.multiplyExact(snapshot.getProductPrice(), count);
+            int itemTotalSalePrice = Math.multiplyExact(snapshot.getProductSalePrice(), count);
+            totalPrice = Math.addExact(totalPrice, itemTotalPrice);
+            totalPay = Math.addExact(totalPay, itemTotalSalePrice);
+            pricedItems.add(new PricedItem(item.getProductId(), item.getOptionId(), count, snapshot, itemTotalPrice, itemTotalSalePrice));
+        }
+        return new PricedBasket(pricedItems, totalPrice, totalPay);
+    }
+
+    // 상품 정보 변경 트랜잭션 커밋 후 캐시 제거 (커밋 전에 제거하면 그사이 조회가 이전 가격을 다시 캐시함)
+    public void evictAfterCommit(Long productId) {
+        AfterCommit.run(() -> priceCache.invalidate(productId));
+    }
+
+    private Map<Long, PriceSnapshot> loadPriceSnapshots(Set<? extends Long> productIds) {
+        List<Long> ids = new ArrayList<>(productIds);
+
+        // 상품별 대표 이미지 (가장 먼저 등록된 이미지)
+        Map<Long, String> firstImgs = new HashMap<>();
+        productImgsRepository.findAllByProductIdIn(ids).stream()
+                .sorted(Comparator.comparing(ProductImgs::getImgId))
+                .forEach(img -> firstImgs.putIfAbsent(img.getProductId(), img.getImgAddress()));
+
+        Map<Long, PriceSnapshot> snapshots = new HashMap<>();
+        for (Product product : productRepository.findAllById(ids)) {
+            snapshots.put(product.getProductId(), new PriceSnapshot(
+                    product.getProductId(),
+                    product.getProductBrand(),
+                    product.getProductName(),
+                    product.getProductPrice(),
+                    product.getProductSalePrice(),
+                    firstImgs.get(product.getProductId())));
+        }
+        log.debug("[PricingService] 가격 스냅샷 조회: 요청={}, 조회={}", ids.size(), snapshots.size());
+        return snapshots;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PriceSnapshot {
+        private final Long productId;
+        private final String productBrand;
+        private final String productName;
+        private final Integer productPrice;
+        private final Integer productSalePrice;
+        private final String productImg;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class BasketItem {
+        private final Long productId;
+        private final Long optionId;
+        private final Integer count;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PricedItem {
+        private final Long productId;
+        private final Long optionId;
+        private final Integer count;
+        private final PriceSnapshot snapshot;
+        private final Integer totalPrice;
+        private final Integer totalSalePrice;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PricedBasket {
+        private final List<PricedItem> items;
+        private final Integer totalPrice;
+        private final Integer totalPay;
+    }
+}
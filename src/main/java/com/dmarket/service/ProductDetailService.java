@@ -0,0 +1,87 @@
+package com.dmarket.service;
+
+import com.dmarket.domain.product.Category;
+import com.dmarket.domain.product.Product;
+import com.dmarket.domain.product.ProductOption;
+import com.dmarket.dto.common.ProductCommonDto;
+import com.dmarket.dto.response.ProductResDto;
+import com.dmarket.event.ProductChangeEvent;
+import com.dmarket.exception.NotFoundException;
+import com.dmarket.repository.product.ProductImgsRepository;
+import com.dmarket.repository.product.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.dmarket.exception.ErrorCode.PRODUCT_NOT_FOUND;
+
+/**
+ * 상품 상세 조회
+ * - 상품+옵션 1회, 이미지 1회 조회로 상세 정보를 만들고 카테고리 경로는 CategoryTree에서 계산
+ * - 조립된 상세 정보는 productDetail 캐시(메모리 + Redis)에 저장하고, 상품 변경 커밋 후 해당 상품만 제거
+ * - 재고는 응답 시점에 재고 예약 엔진의 실시간 카운터로 덮어씀 (카운터가 없으면 캐시된 DB 값 사용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductDetailService {
+
+    private final ProductRepository productRepository;
+    private final ProductImgsRepository productImgsRepository;
+    private final CategoryTree categoryTree;
+    private final StockReservationService stockReservationService;
+    private final CacheManager cacheManager;
+
+    private Cache detailCache;
+
+    @PostConstruct
+    public void init() {
+        detailCache = cacheManager.getCache(Category.RedisCacheKey.PRODUCT_DETAIL);
+    }
+
+    public ProductResDto.ProductInfoResDto getProductInfo(Long productId) {
+        ProductResDto.ProductInfoResDto detail = detailCache.get(productId, () -> loadDetail(productId));
+
+        // 캐시된 객체는 공유되므로 옵션 목록은 복사본에 재고를 덮어씀
+        List<ProductCommonDto.ProductOptionDto> options = new ArrayList<>();
+        for (ProductCommonDto.ProductOptionDto option : detail.getOptionList()) {
+            Integer available = stockReservationService.getAvailable(option.getOptionId());
+            Integer quantity = available == null ? option.getOptionQuantity() : available;
+            options.add(new ProductCommonDto.ProductOptionDto(option.getOptionId(), option.getOptionName(),
+                    option.getOptionValue(), quantity, quantity <= 0 ? "품절" : "판매중"));
+        }
+        return detail.toBuilder().optionList(options).build();
+    }
+
+    // 상품 변경 커밋 후 캐시 제거
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChange(ProductChangeEvent event) {
+        detailCache.evict(event.getProductId());
+    }
+
+    private ProductResDto.ProductInfoResDto loadDetail(Long productId) {
+        List<Object[]> rows = productRepository.findProductWithOptions(productId);
+        if (rows.isEmpty()) {
+            throw new NotFoundException(PRODUCT_NOT_FOUND);
+        }
+        Product product = (Product) rows.get(0)[0];
+        List<ProductCommonDto.ProductOptionDto> options = new ArrayList<>();
+        for (Object[] row : rows) {
+            if (row[1] != null) {
+                options.add(new ProductCommonDto.ProductOptionDto((ProductOption) row[1]));
+            }
+        }
+        List<String> imgs = new ArrayList<>(productImgsRepository.findAllByProductId(productId));
+        return new ProductResDto.ProductInfoResDto(product, categoryTree.getPathName(product.getCategoryId()),
+                product.getProductReviewCount(), options, imgs);
+    }
+}
@@ -0,0 +1,250 @@
+package com.dmarket.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.dmarket.constant.ProductChangeType;
+import com.dmarket.domain.document.ImgDocument;
+import com.dmarket.domain.document.ProductDocument;
+import com.dmarket.domain.document.ReviewDocument;
+import com.dmarket.domain.product.Product;
+import com.dmarket.domain.product.ProductImgs;
+import com.dmarket.domain.product.ProductIndexOutbox;
+import com.dmarket.elastic.ESUtil;
+import com.dmarket.event.ProductChangeEvent;
+import com.dmarket.repository.product.ProductImgsRepository;
+import com.dmarket.repository.product.ProductIndexOutboxRepository;
+import com.dmarket.repository.product.ProductRepository;
+import com.dmarket.repository.product.ProductReviewRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 검색 인덱스 반영
+ * - 상품/옵션/이미지/리뷰 변경 시 같은 트랜잭션에서 outbox 테이블에 기록 (커밋된 변경만 반영됨)
+ * - 스케줄러가 outbox를 상품별로 합쳐 필요한 데이터를 IN 쿼리로 조회한 뒤 _bulk 요청으로 색인
+ * - 문서 _id는 productId, 삭제된 상품은 문서 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductIndexService {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    private final ElasticsearchClient client;
+    private final ProductIndexOutboxRepository productIndexOutboxRepository;
+    private final ProductRepository productRepository;
+    private final ProductImgsRepository productImgsRepository;
+    private final ProductReviewRepository productReviewRepository;
+    private final ProductSearchCacheService productSearchCacheService;
+    private final MeterRegistry meterRegistry;
+
+    // 한 번에 가져올 outbox 행 수
+    @Value("${elasticsearch.indexer.batch-size:1000}")
+    private int batchSize;
+
+    // _bulk 요청 하나에 담을 문서 수
+    @Value("${elasticsearch.indexer.bulk-size:200}")
+    private int bulkSize;
+
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private volatile String dualWriteIndex;
+    private Counter indexedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("product.index.lag", lagSeconds, AtomicLong::get)
+                .description("가장 오래된 미반영 상품 변경 이후 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        indexedCounter = Counter.builder("product.index.documents")
+                .description("검색 인덱스에 반영된 상품 문서 수")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("product.index.failures")
+                .description("검색 인덱스 반영에 실패한 상품 문서 수")
+                .register(meterRegistry);
+    }
+
+    // 상품 변경 내역 기록 (변경한 트랜잭션과 함께 커밋/롤백)
+    @EventListener
+    @Transactional
+    public void recordChange(ProductChangeEvent event) {
+        // 재고는 검색 문서에 포함되지 않음
+        if (event.getType() == ProductChangeType.STOCK) {
+            return;
+        }
+        productIndexOutboxRepository.save(ProductIndexOutbox.builder()
+                .productId(event.getProductId())
+                .changeType(event.getType())
+                .build());
+    }
+
+    // 미반영 변경 내역을 상품별로 합쳐 색인
+    @Scheduled(fixedDelayString = "${elasticsearch.indexer.interval-ms:1000}")
+    public void indexPendingChanges() {
+        List<ProductIndexOutbox> changes = productIndexOutboxRepository.findAllByOrderByOutboxIdAsc(PageRequest.of(0, batchSize));
+        if (changes.isEmpty()) {
+            lagSeconds.set(0);
+            return;
+        }
+
+        // 상품 번호 -> 해당 상품의 outbox 번호
+        Map<Long, List<Long>> outboxIdsByProduct = new LinkedHashMap<>();
+        for (ProductIndexOutbox change : changes) {
+            outboxIdsByProduct.computeIfAbsent(change.getProductId(), id -> new ArrayList<>()).add(change.getOutboxId());
+        }
+
+        List<Long> productIds = new ArrayList<>(outboxIdsByProduct.keySet());
+        List<Long> doneOutboxIds = new ArrayList<>();
+        for (int from = 0; from < productIds.size(); from += bulkSize) {
+            List<Long> chunk = productIds.subList(from, Math.min(from + bulkSize, productIds.size()));
+            Set<Long> failed = sendBulk(chunk);
+            for (Long productId : chunk) {
+                if (!failed.contains(productId)) {
+                    doneOutboxIds.addAll(outboxIdsByProduct.get(productId));
+                }
+            }
+        }
+
+        // 실패한 상품은 outbox에 남겨 다음 주기에 재시도
+        productIndexOutboxRepository.deleteAllByIdInBatch(doneOutboxIds);
+        if (!doneOutboxIds.isEmpty()) {
+            // 반영된 변경이 있으면 검색 결과 캐시 무효화
+            productSearchCacheService.invalidateAll();
+        }
+
+        LocalDateTime oldest = productIndexOutboxRepository.findOldestCreatedDate();
+        lagSeconds.set(oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).getSeconds());
+        log.debug("[ProductIndexService] 검색 인덱스 반영: 변경 {}건, 상품 {}개", changes.size(), productIds.size());
+    }
+
+    // 재색인 중인 새 인덱스에도 함께 반영 (재색인 완료 후 해제)
+    public void startDualWrite(String index) {
+        dualWriteIndex = index;
+    }
+
+    public void stopDualWrite() {
+        dualWriteIndex = null;
+    }
+
+    // 상품 목록의 검색 문서 생성 (이미지, 리뷰는 IN 쿼리로 한 번에 조회)
+    public Map<Long, ProductDocument> loadDocuments(Collection<Product> products) {
+        List<Long> productIds = products.stream().map(Product::getProductId).toList();
+
+        // 상품별 대표 이미지 (가장 먼저 등록된 이미지)
+        Map<Long, ImgDocument> firstImgs = new HashMap<>();
+        productImgsRepository.findAllByProductIdIn(productIds).stream()
+                .sorted(Comparator.comparing(ProductImgs::getImgId))
+                .forEach(img -> firstImgs.putIfAbsent(img.getProductId(),
+                        new ImgDocument(img.getImgId(), img.getImgAddress(), img.getProductId())));
+
+        Map<Long, List<ReviewDocument>> reviews = productReviewRepository.findReviewDocumentsByProductIdIn(productIds).stream()
+                .collect(Collectors.groupingBy(ReviewDocument::getProduct_id));
+
+        Map<Long, ProductDocument> documents = new LinkedHashMap<>();
+        for (Product product : products) {
+            Long productId = product.getProductId();
+            documents.put(productId, toDocument(product, firstImgs.get(productId), reviews.getOrDefault(productId, List.of())));
+        }
+        return documents;
+    }
+
+    // 상품 묶음을 _bulk 요청으로 색인하고 실패한 상품 번호 반환
+    private Set<Long> sendBulk(List<Long> productIds) {
+        Map<Long, ProductDocument> documents = loadDocuments(productRepository.findAllById(productIds));
+
+        List<String> indices = new ArrayList<>();
+        indices.add(ESUtil.PRODUCT_INDEX);
+        String secondary = dualWriteIndex;
+        if (secondary != null) {
+            indices.add(secondary);
+        }
+
+        BulkRequest.Builder bulk = new BulkRequest.Builder();
+        for (String index : indices) {
+            for (Long productId : productIds) {
+                ProductDocument document = documents.get(productId);
+                if (document == null) {
+                    bulk.operations(op -> op.delete(d -> d
+                            .index(index)
+                            .id(String.valueOf(productId))));
+                } else {
+                    bulk.operations(op -> op.index(i -> i
+                            .index(index)
+                            .id(String.valueOf(productId))
+                            .document(document)));
+                }
+            }
+        }
+
+        Set<Long> failed = new HashSet<>();
+        try {
+            BulkResponse response = client.bulk(bulk.build());
+            if (response.errors()) {
+                for (BulkResponseItem item : response.items()) {
+                    // 삭제할 문서가 없는 경우(404)는 실패로 보지 않음
+                    if (item.error() != null && item.status() != 404) {
+                        log.warn("[ProductIndexService] 상품 색인 실패: productId={}, reason={}", item.id(), item.error().reason());
+                        failed.add(Long.valueOf(item.id()));
+                    }
+                }
+            }
+        } catch (IOException | ElasticsearchException e) {
+            log.error("[ProductIndexService] _bulk 요청 실패: 상품 {}개", productIds.size(), e);
+            failed.addAll(productIds);
+        }
+        indexedCounter.increment(productIds.size() - failed.size());
+        failedCounter.increment(failed.size());
+        return failed;
+    }
+
+    private ProductDocument toDocument(Product product, ImgDocument img, List<ReviewDocument> reviews) {
+        Date createdDate = product.getProductCreatedDate() == null
+                ? null : Date.from(product.getProductCreatedDate().atZone(ZONE_ID).toInstant());
+        return new ProductDocument(
+                product.getProductId(),
+                product.getCategoryId(),
+                product.getProductBrand(),
+                product.getProductName(),
+                product.getProductPrice(),
+                product.getProductSalePrice(),
+                product.getProductDescription(),
+                product.getProductDiscountRate(),
+                product.getProductRating(),
+                createdDate,
+                img,
+                reviews,
+                product.getProductReviewCount().intValue());
+    }
+}
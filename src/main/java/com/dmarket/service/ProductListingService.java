@@ -0,0 +1,152 @@
+package com.dmarket.service;
+
+import com.dmarket.domain.product.Product;
+import com.dmarket.domain.product.ProductImgs;
+import com.dmarket.domain.product.ProductListing;
+import com.dmarket.domain.product.ProductOption;
+import com.dmarket.event.ProductChangeEvent;
+import com.dmarket.repository.product.ProductImgsRepository;
+import com.dmarket.repository.product.ProductListingRepository;
+import com.dmarket.repository.product.ProductOptionRepository;
+import com.dmarket.repository.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리 상품 목록 읽기 모델(ProductListing) 관리
+ * - 대표 이미지, 리뷰 수, 평점, 판매가, 재고 여부를 상품별 한 행으로 보관
+ * - 상품/옵션/이미지/리뷰/재고 변경 커밋 후 해당 상품 행만 다시 계산
+ * - 시작 시, 그리고 매일 새벽 전체 상품을 다시 계산해 저장된 행과 비교하고 다른 행만 갱신
+ *   (커밋 후 갱신이 실패했거나 커밋 직후 프로세스가 종료되어 놓친 변경 복구, 비어 있으면 전체 생성)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductListingService {
+
+    private final ProductListingRepository productListingRepository;
+    private final ProductRepository productRepository;
+    private final ProductImgsRepository productImgsRepository;
+    private final ProductOptionRepository productOptionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${product.listing.rebuild-page-size:500}")
+    private int rebuildPageSize;
+
+    // 읽기 모델 정합성 점검 (상품 번호 구간별로 다시 계산해 다른 행만 구간마다 별도 트랜잭션으로 갱신)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${product.listing.reconcile-cron:0 0 4 * * *}")
+    public synchronized void reconcile() {
+        // 평점이 비어 있는 이전 행은 0으로 채움
+        Integer filled = transactionTemplate.execute(status -> productListingRepository.fillMissingRatings());
+        if (filled != null && filled > 0) {
+            log.info("[ProductListingService] 평점이 비어 있는 상품 목록 행 {}개를 0으로 채움", filled);
+        }
+
+        Long maxId = productRepository.findMaxProductId();
+        long lastId = 0;
+        int checked = 0;
+        int repaired = 0;
+        while (maxId != null) {
+            List<Product> products = productRepository.findKeysetSlice(lastId, maxId, PageRequest.of(0, rebuildPageSize));
+            if (products.isEmpty()) {
+                break;
+            }
+            List<Long> stale = findStale(products);
+            if (!stale.isEmpty()) {
+                // 비교 이후 커밋된 변경을 덮어쓰지 않도록 다른 행만 최신 상태로 다시 계산
+                transactionTemplate.executeWithoutResult(status -> refresh(stale));
+                repaired += stale.size();
+            }
+            checked += products.size();
+            lastId = products.get(products.size() - 1).getProductId();
+        }
+        Integer orphans = transactionTemplate.execute(status -> productListingRepository.deleteOrphans());
+        log.info("[ProductListingService] 상품 목록 읽기 모델 점검 완료: 상품 {}개, 갱신 {}개, 삭제 {}개",
+                checked, repaired, orphans);
+    }
+
+    // 상품 변경 커밋 후 해당 상품 행 갱신 (재고 반영처럼 트랜잭션 밖에서 발생한 이벤트도 처리)
+    // 읽기 모델을 사용하는 다른 리스너(연관 상품 추천)보다 먼저 실행
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onProductChange(ProductChangeEvent event) {
+        refresh(List.of(event.getProductId()));
+    }
+
+    // 다시 계산한 행과 저장된 행이 다르거나 행이 없는 상품 번호
+    private List<Long> findStale(List<Product> products) {
+        Map<Long, ProductListing> stored = productListingRepository.findAllById(
+                        products.stream().map(Product::getProductId).toList()).stream()
+                .collect(Collectors.toMap(ProductListing::getProductId, Function.identity()));
+        List<Long> stale = new ArrayList<>();
+        for (ProductListing listing : buildListings(products)) {
+            ProductListing current = stored.get(listing.getProductId());
+            if (current == null || !current.isSameAs(listing)) {
+                stale.add(listing.getProductId());
+            }
+        }
+        return stale;
+    }
+
+    private void refresh(List<Long> productIds) {
+        List<Product> products = productRepository.findAllById(productIds);
+        productListingRepository.saveAll(buildListings(products));
+
+        // 삭제된 상품은 행 제거
+        List<Long> deleted = new ArrayList<>(productIds);
+        products.forEach(product -> deleted.remove(product.getProductId()));
+        if (!deleted.isEmpty()) {
+            productListingRepository.deleteAllByIdInBatch(deleted);
+        }
+    }
+
+    // 상품 목록의 읽기 모델 행 생성 (이미지, 옵션은 IN 쿼리로 한 번에 조회)
+    private List<ProductListing> buildListings(Collection<Product> products) {
+        List<Long> productIds = products.stream().map(Product::getProductId).toList();
+
+        // 상품별 대표 이미지 (가장 먼저 등록된 이미지)
+        Map<Long, String> firstImgs = new HashMap<>();
+        productImgsRepository.findAllByProductIdIn(productIds).stream()
+                .sorted(Comparator.comparing(ProductImgs::getImgId))
+                .forEach(img -> firstImgs.putIfAbsent(img.getProductId(), img.getImgAddress()));
+
+        Map<Long, List<ProductOption>> options = productOptionRepository.findOptionsByProductIdIn(productIds).stream()
+                .collect(Collectors.groupingBy(ProductOption::getProductId));
+
+        List<ProductListing> listings = new ArrayList<>();
+        for (Product product : products) {
+            List<ProductOption> productOptions = options.getOrDefault(product.getProductId(), List.of());
+            listings.add(ProductListing.builder()
+                    .product(product)
+                    .productImg(firstImgs.get(product.getProductId()))
+                    .reviewCnt(product.getProductReviewCount())
+                    .hasOption(!productOptions.isEmpty())
+                    .inStock(productOptions.stream().anyMatch(option -> option.getOptionQuantity() > 0))
+                    .build());
+        }
+        return listings;
+    }
+}
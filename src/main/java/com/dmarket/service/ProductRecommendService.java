@@ -0,0 +1,301 @@
+package com.dmarket.service;
+
+import com.dmarket.constant.ProductChangeType;
+import com.dmarket.domain.product.ProductListing;
+import com.dmarket.dto.response.ProductResDto;
+import com.dmarket.event.ProductChangeEvent;
+import com.dmarket.repository.order.OrderDetailRepository;
+import com.dmarket.repository.product.ProductListingRepository;
+import com.dmarket.repository.user.WishlistRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * 연관 상품 추천
+ * - 함께 구매한 상품(주문 상세), 함께 찜한 상품(위시리스트)으로 상품 간 점수를 배치로 계산
+ * - 상품별 상위 K개 이웃만 원시 배열(상품 번호 정렬 + 구간 오프셋)로 보관해 요청 시 이진 탐색 한 번으로 조회
+ * - 추천 카드는 상품 목록 읽기 모델에서 가져와 메모리에 두고, 상품 변경 커밋 후 해당 상품만 갱신
+ * - 이웃이 부족하면 같은 카테고리 최신 상품으로 채움 (상품별 카테고리, 카테고리별 최신 상품도 배치에서 메모리에 계산)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductRecommendService {
+
+    // 한 주문(회원)에서 쌍을 만들 최대 상품 수 (대량 주문, 대량 찜으로 쌍이 폭증하는 것 방지)
+    private static final int MAX_GROUP_SIZE = 50;
+    private static final int CARD_CHUNK_SIZE = 1000;
+
+    private final OrderDetailRepository orderDetailRepository;
+    private final WishlistRepository wishlistRepository;
+    private final ProductListingRepository productListingRepository;
+
+    // 상품별 보관할 이웃 수
+    @Value("${product.recommend.top-k:20}")
+    private int topK;
+
+    // 함께 구매 1건, 함께 찜 1건의 점수
+    @Value("${product.recommend.purchase-weight:1.0}")
+    private float purchaseWeight;
+
+    @Value("${product.recommend.wish-weight:0.5}")
+    private float wishWeight;
+
+    // 배치에서 한 번에 읽을 주문(회원) 번호 구간 크기
+    @Value("${product.recommend.batch-id-range:5000}")
+    private long batchIdRange;
+
+    // 카테고리별 보관할 최신 상품 수 (이웃이 부족할 때 채우는 후보)
+    @Value("${product.recommend.category-fallback-size:10}")
+    private int categoryFallbackSize;
+
+    private volatile Neighbors neighbors = Neighbors.EMPTY;
+    private volatile Categories categories = Categories.EMPTY;
+    // 상품 번호 -> 추천 카드 (이웃, 카테고리 최신 상품으로 등장하는 판매 중 상품만)
+    private volatile Map<Long, ProductResDto.RecommendProductResDto> cards = new ConcurrentHashMap<>();
+    // 마지막 계산 이후 등록/수정되어 카테고리가 달라진 상품 (상품 번호 -> 카테고리 번호)
+    private final Map<Long, Long> changedCategories = new ConcurrentHashMap<>();
+
+    // 연관 상품 limit개 (함께 구매/찜 이웃 우선, 부족하면 같은 카테고리 최신 상품)
+    public List<ProductResDto.RecommendProductResDto> recommend(Long productId, int limit) {
+        List<ProductResDto.RecommendProductResDto> result = new ArrayList<>();
+        Neighbors current = neighbors;
+        Map<Long, ProductResDto.RecommendProductResDto> currentCards = cards;
+        int index = Arrays.binarySearch(current.productIds, productId);
+        if (index >= 0) {
+            for (int i = current.offsets[index]; i < current.offsets[index + 1] && result.size() < limit; i++) {
+                ProductResDto.RecommendProductResDto card = currentCards.get(current.neighborIds[i]);
+                if (card != null) {
+                    result.add(card);
+                }
+            }
+        }
+        if (result.size() < limit) {
+            fillFromCategory(productId, limit, result, currentCards);
+        }
+        return result;
+    }
+
+    // 시작 시, 그리고 매일 새벽 이웃 행렬 다시 계산
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${product.recommend.rebuild-cron:0 30 3 * * *}")
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        Map<Long, Map<Long, Float>> scores = new HashMap<>();
+        int orders = accumulate(scores, orderDetailRepository.findMaxOrderId(), orderDetailRepository::findOrderProductPairs, purchaseWeight);
+        int users = accumulate(scores, wishlistRepository.findMaxUserId(), wishlistRepository::findUserProductPairs, wishWeight);
+
+        Neighbors next = Neighbors.of(scores, topK);
+        Categories nextCategories = loadCategories();
+        Set<Long> cardIds = new HashSet<>();
+        Arrays.stream(next.neighborIds).forEach(cardIds::add);
+        nextCategories.latestIds.values().forEach(ids -> Arrays.stream(ids).forEach(cardIds::add));
+        cards = loadCards(cardIds);
+        categories = nextCategories;
+        changedCategories.clear();
+        neighbors = next;
+        log.info("[ProductRecommendService] 연관 상품 계산 완료: 주문 {}건, 회원 {}명, 상품 {}개, 이웃 {}개, 카테고리 {}개",
+                orders, users, next.productIds.length, next.neighborIds.length, nextCategories.latestIds.size());
+    }
+
+    // 상품 변경 커밋 후 추천 카드 갱신 (목록 읽기 모델이 먼저 갱신된 뒤 실행)
+    @TransactionalEventListener(fallbackExecution = true, condition = "#event.type.name() != 'STOCK'")
+    public void onProductChange(ProductChangeEvent event) {
+        Map<Long, ProductResDto.RecommendProductResDto> currentCards = cards;
+        Long productId = event.getProductId();
+        // 카테고리는 상품 등록/수정으로만 바뀜
+        boolean categoryMayChange = event.getType() == ProductChangeType.PRODUCT;
+        if (!currentCards.containsKey(productId) && !categoryMayChange) {
+            return;
+        }
+        ProductListing listing = productListingRepository.findById(productId).orElse(null);
+        if (listing != null && categoryMayChange && !listing.getCategoryId().equals(categories.categoryOf(productId))) {
+            changedCategories.put(productId, listing.getCategoryId());
+        }
+        if (!currentCards.containsKey(productId)) {
+            return;
+        }
+        if (listing != null && Boolean.TRUE.equals(listing.getHasOption())) {
+            currentCards.put(productId, toCard(listing));
+        } else {
+            currentCards.remove(productId);
+        }
+    }
+
+    // 같은 카테고리 최신 상품으로 채움 (배치에서 계산한 메모리 목록만 사용, DB 조회 없음)
+    private void fillFromCategory(Long productId, int limit, List<ProductResDto.RecommendProductResDto> result,
+                                  Map<Long, ProductResDto.RecommendProductResDto> currentCards) {
+        Categories current = categories;
+        Long categoryId = changedCategories.getOrDefault(productId, current.categoryOf(productId));
+        long[] latestIds = categoryId == null ? null : current.latestIds.get(categoryId);
+        if (latestIds == null) {
+            return;
+        }
+        Set<Long> added = new HashSet<>();
+        added.add(productId);
+        result.forEach(card -> added.add(card.getProductId()));
+        for (int i = 0; i < latestIds.length && result.size() < limit; i++) {
+            ProductResDto.RecommendProductResDto card = currentCards.get(latestIds[i]);
+            if (card != null && card.getCateId().equals(categoryId) && added.add(card.getProductId())) {
+                result.add(card);
+            }
+        }
+    }
+
+    // 상품별 카테고리, 카테고리별 최신 판매 중 상품
+    private Categories loadCategories() {
+        List<Object[]> pairs = productListingRepository.findProductCategoryPairs();
+        long[] productIds = new long[pairs.size()];
+        long[] categoryIds = new long[pairs.size()];
+        Set<Long> distinctCategoryIds = new HashSet<>();
+        for (int i = 0; i < pairs.size(); i++) {
+            productIds[i] = (Long) pairs.get(i)[0];
+            categoryIds[i] = (Long) pairs.get(i)[1];
+            distinctCategoryIds.add(categoryIds[i]);
+        }
+        Map<Long, long[]> latestIds = new HashMap<>();
+        for (Long categoryId : distinctCategoryIds) {
+            latestIds.put(categoryId, productListingRepository.findLatestProductIdsByCategoryId(categoryId,
+                    PageRequest.of(0, categoryFallbackSize)).stream().mapToLong(Long::longValue).toArray());
+        }
+        return new Categories(productIds, categoryIds, latestIds);
+    }
+
+    // 주문(회원) 번호 구간마다 같은 그룹의 상품 쌍에 weight를 더함, 처리한 그룹 수 반환
+    private int accumulate(Map<Long, Map<Long, Float>> scores, Long maxId,
+                           BiFunction<Long, Long, List<Object[]>> pairLoader, float weight) {
+        if (maxId == null || weight <= 0) {
+            return 0;
+        }
+        int groups = 0;
+        for (long from = 0; from < maxId; from += batchIdRange) {
+            Long groupId = null;
+            Set<Long> group = new HashSet<>();
+            for (Object[] row : pairLoader.apply(from, Math.min(from + batchIdRange, maxId))) {
+                if (row[1] == null) {
+                    continue;
+                }
+                if (!row[0].equals(groupId)) {
+                    groups += addPairs(scores, group, weight);
+                    group.clear();
+                    groupId = (Long) row[0];
+                }
+                if (group.size() < MAX_GROUP_SIZE) {
+                    group.add((Long) row[1]);
+                }
+            }
+            groups += addPairs(scores, group, weight);
+        }
+        return groups;
+    }
+
+    private int addPairs(Map<Long, Map<Long, Float>> scores, Set<Long> group, float weight) {
+        if (group.size() < 2) {
+            return 0;
+        }
+        for (Long productId : group) {
+            Map<Long, Float> row = scores.computeIfAbsent(productId, id -> new HashMap<>());
+            for (Long other : group) {
+                if (!other.equals(productId)) {
+                    row.merge(other, weight, Float::sum);
+                }
+            }
+        }
+        return 1;
+    }
+
+    // 이웃, 카테고리 최신 상품으로 등장한 상품의 추천 카드 (옵션이 없는 상품은 제외)
+    private Map<Long, ProductResDto.RecommendProductResDto> loadCards(Set<Long> cardIds) {
+        List<Long> ids = new ArrayList<>(cardIds);
+        Map<Long, ProductResDto.RecommendProductResDto> loaded = new ConcurrentHashMap<>();
+        for (int from = 0; from < ids.size(); from += CARD_CHUNK_SIZE) {
+            for (ProductListing listing : productListingRepository.findAllById(ids.subList(from, Math.min(from + CARD_CHUNK_SIZE, ids.size())))) {
+                if (Boolean.TRUE.equals(listing.getHasOption())) {
+                    loaded.put(listing.getProductId(), toCard(listing));
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private ProductResDto.RecommendProductResDto toCard(ProductListing listing) {
+        return new ProductResDto.RecommendProductResDto(listing.getCategoryId(), listing.getProductId(),
+                listing.getProductBrand(), listing.getProductName(), listing.getProductImg(),
+                listing.getProductSalePrice(), listing.getProductDiscountRate(),
+                listing.getProductRating(), listing.getReviewCnt());
+    }
+
+    // 상품별 카테고리 (productIds는 오름차순, categoryIds[i]가 i번째 상품의 카테고리) + 카테고리별 최신 상품 번호
+    private static class Categories {
+        private static final Categories EMPTY = new Categories(new long[0], new long[0], Map.of());
+
+        private final long[] productIds;
+        private final long[] categoryIds;
+        private final Map<Long, long[]> latestIds;
+
+        private Categories(long[] productIds, long[] categoryIds, Map<Long, long[]> latestIds) {
+            this.productIds = productIds;
+            this.categoryIds = categoryIds;
+            this.latestIds = latestIds;
+        }
+
+        private Long categoryOf(Long productId) {
+            int index = Arrays.binarySearch(productIds, productId);
+            return index < 0 ? null : categoryIds[index];
+        }
+    }
+
+    // 상품별 상위 이웃 (productIds는 오름차순, i번째 상품의 이웃은 neighborIds[offsets[i]..offsets[i+1]) 점수 내림차순)
+    private static class Neighbors {
+        private static final Neighbors EMPTY = new Neighbors(new long[0], new int[1], new long[0]);
+
+        private final long[] productIds;
+        private final int[] offsets;
+        private final long[] neighborIds;
+
+        private Neighbors(long[] productIds, int[] offsets, long[] neighborIds) {
+            this.productIds = productIds;
+            this.offsets = offsets;
+            this.neighborIds = neighborIds;
+        }
+
+        private static Neighbors of(Map<Long, Map<Long, Float>> scores, int topK) {
+            long[] productIds = scores.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            int[] offsets = new int[productIds.length + 1];
+            long[] neighborIds = new long[productIds.length * Math.max(topK, 0)];
+            int size = 0;
+            for (int i = 0; i < productIds.length; i++) {
+                offsets[i] = size;
+                List<Map.Entry<Long, Float>> top = scores.get(productIds[i]).entrySet().stream()
+                        .sorted(Map.Entry.<Long, Float>comparingByValue(Comparator.reverseOrder())
+                                .thenComparing(Map.Entry.comparingByKey()))
+                        .limit(topK)
+                        .toList();
+                for (Map.Entry<Long, Float> neighbor : top) {
+                    neighborIds[size++] = neighbor.getKey();
+                }
+            }
+            offsets[productIds.length] = size;
+            return new Neighbors(productIds, offsets, Arrays.copyOf(neighborIds, size));
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.dmarket.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import com.dmarket.domain.document.ProductDocument;
+import com.dmarket.domain.product.Product;
+import com.dmarket.dto.response.AdminResDto;
+import com.dmarket.elastic.ESUtil;
+import com.dmarket.exception.ConflictException;
+import com.dmarket.repository.product.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.dmarket.exception.ErrorCode.REINDEX_ALREADY_RUNNING;
+
+/**
+ * 상품 검색 인덱스 전체 재색인
+ * - 새 버전 인덱스(product-v{시각})를 매핑 파일로 생성
+ * - 상품 번호 범위를 slice로 나눠 고정 크기 스레드 풀에서 keyset 조회 -> _bulk 색인
+ * - 재색인 중 발생한 변경은 ProductIndexService가 새 인덱스에도 함께 반영
+ * - 완료 후 alias를 새 인덱스로 한 번에 교체 (이전 인덱스는 롤백용으로 남겨둠)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductReindexService {
+
+    private static final String INDEX_DEFINITION = "elasticsearch/product-index.json";
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final ElasticsearchClient client;
+    private final ProductRepository productRepository;
+    private final ProductIndexService productIndexService;
+    private final ProductSearchCacheService productSearchCacheService;
+
+    @Value("${elasticsearch.reindex.slices:4}")
+    private int slices;
+
+    @Value("${elasticsearch.reindex.page-size:500}")
+    private int pageSize;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private ExecutorService workers;
+    private ExecutorService coordinator;
+
+    // 진행 상황
+    private volatile String state = "IDLE";
+    private volatile String targetIndex;
+    private volatile String errorMessage;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong indexedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        coordinator = Executors.newSingleThreadExecutor();
+        workers = Executors.newFixedThreadPool(slices);
+    }
+
+    // alias가 없으면 기존 인덱스를 가리키도록 생성
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initAlias() {
+        try {
+            if (client.indices().existsAlias(e -> e.name(ESUtil.PRODUCT_INDEX)).value()) {
+                return;
+            }
+            if (client.indices().exists(e -> e.index(ESUtil.LEGACY_PRODUCT_INDEX)).value()) {
+                client.indices().updateAliases(u -> u.actions(a -> a.add(add -> add
+                        .index(ESUtil.LEGACY_PRODUCT_INDEX)
+                        .alias(ESUtil.PRODUCT_INDEX))));
+                log.info("[ProductReindexService] alias 생성: {} -> {}", ESUtil.PRODUCT_INDEX, ESUtil.LEGACY_PRODUCT_INDEX);
+            }
+        } catch (IOException | ElasticsearchException e) {
+            log.error("[ProductReindexService] alias 초기화 실패", e);
+        }
+    }
+
+    // 재색인 시작 (비동기)
+    public AdminResDto.ReindexStatusResDto startReindex() {
+        if (!running.compareAndSet(false, true)) {
+            throw new ConflictException(REINDEX_ALREADY_RUNNING);
+        }
+        state = "RUNNING";
+        targetIndex = ESUtil.PRODUCT_INDEX_PREFIX + LocalDateTime.now().format(VERSION_FORMAT);
+        errorMessage = null;
+        startedAt = LocalDateTime.now();
+        finishedAt = null;
+        totalCount.set(0);
+        indexedCount.set(0);
+        failedCount.set(0);
+
+        coordinator.submit(this::runReindex);
+        return getStatus();
+    }
+
+    public AdminResDto.ReindexStatusResDto getStatus() {
+        LocalDateTime end = finishedAt == null ? LocalDateTime.now() : finishedAt;
+        double elapsedSeconds = startedAt == null ? 0 : Duration.between(startedAt, end).toMillis() / 1000.0;
+        double docsPerSecond = elapsedSeconds > 0 ? indexedCount.get() / elapsedSeconds : 0;
+        return new AdminResDto.ReindexStatusResDto(state, targetIndex, totalCount.get(), indexedCount.get(),
+                failedCount.get(), Math.round(docsPerSecond * 10) / 10.0, startedAt, finishedAt, errorMessage);
+    }
+
+    private void runReindex() {
+        String index = targetIndex;
+        try {
+            createIndex(index);
+            productIndexService.startDualWrite(index);
+
+            Long minId = productRepository.findMinProductId();
+            Long maxId = productRepository.findMaxProductId();
+            totalCount.set(productRepository.count());
+
+            if (minId != null) {
+                // 상품 번호 범위를 slice 개수만큼 나눠 병렬 처리
+                long step = Math.max(1, (maxId - minId + slices) / slices);
+                List<CompletableFuture<Void>> futures = new ArrayList<>();
+                for (long start = minId - 1; start < maxId; start += step) {
+                    long from = start;
+                    long to = Math.min(start + step, maxId);
+                    futures.add(CompletableFuture.runAsync(() -> indexSlice(index, from, to), workers));
+                }
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            }
+
+            client.indices().refresh(r -> r.index(index));
+            if (failedCount.get() > 0) {
+                // 일부만 색인된 인덱스로 교체하면 검색에서 상품이 빠지므로 기존 alias 유지 (새 인덱스는 확인용으로 남김)
+                state = "FAILED";
+                errorMessage = "색인 실패 문서 " + failedCount.get() + "개, alias를 교체하지 않음";
+                log.error("[ProductReindexService] 재색인 실패: index={}, 성공={}, 실패={}, 기존 alias 유지", index, indexedCount.get(), failedCount.get());
+                return;
+            }
+            swapAlias(index);
+            productSearchCacheService.invalidateAll();
+            state = "COMPLETED";
+            log.info("[ProductReindexService] 재색인 완료: index={}, 성공={}", index, indexedCount.get());
+        } catch (Exception e) {
+            state = "FAILED";
+            errorMessage = e.getMessage();
+            log.error("[ProductReindexService] 재색인 실패: index={}", index, e);
+        } finally {
+            productIndexService.stopDualWrite();
+            finishedAt = LocalDateTime.now();
+            running.set(false);
+        }
+    }
+
+    private void createIndex(String index) throws IOException {
+        try (InputStream definition = new ClassPathResource(INDEX_DEFINITION).getInputStream()) {
+            client.indices().create(c -> c.index(index).withJson(definition));
+        }
+    }
+
+    // (fromId, toId] 범위 상품을 keyset 방식으로 조회하며 색인
+    private void indexSlice(String index, long fromId, long toId) {
+        long lastId = fromId;
+        while (true) {
+            List<Product> products = productRepository.findKeysetSlice(lastId, toId, PageRequest.of(0, pageSize));
+            if (products.isEmpty()) {
+                return;
+            }
+            sendBulk(index, productIndexService.loadDocuments(products));
+            lastId = products.get(products.size() - 1).getProductId();
+        }
+    }
+
+    private void sendBulk(String index, Map<Long, ProductDocument> documents) {
+        BulkRequest.Builder bulk = new BulkRequest.Builder();
+        // 재색인 중 실시간 색인으로 먼저 들어간 최신 문서는 덮어쓰지 않도록 create 사용
+        documents.forEach((productId, document) -> bulk.operations(op -> op.create(c -> c
+                .index(index)
+                .id(String.valueOf(productId))
+                .document(document))));
+        try {
+            BulkResponse response = client.bulk(bulk.build());
+            int failed = 0;
+            if (response.errors()) {
+                for (BulkResponseItem item : response.items()) {
+                    // 409: 이미 최신 문서가 있음
+                    if (item.error() != null && item.status() != 409) {
+                        failed++;
+                        log.warn("[ProductReindexService] 상품 색인 실패: productId={}, reason={}", item.id(), item.error().reason());
+                    }
+                }
+            }
+            indexedCount.addAndGet(documents.size() - failed);
+            failedCount.addAndGet(failed);
+        } catch (IOException | ElasticsearchException e) {
+            failedCount.addAndGet(documents.size());
+            log.error("[ProductReindexService] _bulk 요청 실패: 상품 {}개", documents.size(), e);
+        }
+    }
+
+    // 기존 인덱스에서 alias 제거 + 새 인덱스에 alias 추가를 한 요청으로 처리
+    private void swapAlias(String index) throws IOException {
+        List<Action> actions = new ArrayList<>();
+        if (client.indices().existsAlias(e -> e.name(ESUtil.PRODUCT_INDEX)).value()) {
+            for (String current : client.indices().getAlias(g -> g.name(ESUtil.PRODUCT_INDEX)).result().keySet()) {
+                actions.add(Action.of(a -> a.remove(r -> r.index(current).alias(ESUtil.PRODUCT_INDEX))));
+            }
+        }
+        actions.add(Action.of(a -> a.add(add -> add.index(index).alias(ESUtil.PRODUCT_INDEX))));
+        client.indices().updateAliases(u -> u.actions(actions));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+}
@@ -0,0 +1,56 @@
+package com.dmarket.service;
+
+import com.dmarket.constant.ProductChangeType;
+import com.dmarket.event.ProductChangeEvent;
+import com.dmarket.repository.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 상품 리뷰 집계(리뷰 수, 별점 합계, 평균 별점) 보정
+ * - 리뷰 작성/삭제 시에는 증감 UPDATE로만 반영하므로, 주기적으로 실제 리뷰와 비교해 어긋난 상품만 다시 계산
+ * - 시작 시에도 한 번 실행 (컬럼 추가 직후 기존 상품 값 채우기)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductReviewReconcileService {
+
+    private static final int RECALCULATE_CHUNK_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher publisher;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Transactional
+    @Scheduled(cron = "${product.review.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        List<Long> productIds = productRepository.findReviewAggregateDriftProductIds();
+        if (productIds.isEmpty()) {
+            return;
+        }
+        for (int from = 0; from < productIds.size(); from += RECALCULATE_CHUNK_SIZE) {
+            productRepository.recalculateReviewAggregates(productIds.subList(from, Math.min(from + RECALCULATE_CHUNK_SIZE, productIds.size())));
+        }
+
+        // 목록, 검색 인덱스에도 보정된 값 반영
+        productIds.forEach(productId -> publisher.publishEvent(ProductChangeEvent.of(productId, ProductChangeType.REVIEW)));
+        log.warn("[ProductReviewReconcileService] 리뷰 집계 보정: 상품 {}개", productIds.size());
+    }
+}
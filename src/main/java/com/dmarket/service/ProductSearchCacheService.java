@@ -0,0 +1,163 @@
+package com.dmarket.service;
+
+import com.dmarket.dto.response.ProductResDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 검색 결과 캐시
+ * - 1차: 인스턴스 메모리(Caffeine, 짧은 TTL) / 2차: Redis(JSON 문자열)
+ * - 캐시 키: 정규화한 검색어 + 정렬 + 가격 범위 + 평점 + 페이지
+ * - Redis 키에 검색 캐시 버전을 붙이고, 상품 변경이 검색 인덱스에 반영되면 버전을 올려 전체 무효화
+ * - 저장은 조회 시점의 버전으로만 수행 (무효화 전에 시작한 검색 결과가 새 버전에 저장되지 않도록 함)
+ * - Redis 장애 시에는 캐시 없이 검색
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductSearchCacheService {
+
+    private static final String VERSION_KEY = "search:version";
+    private static final String RESULT_KEY_PREFIX = "search:result:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${search.cache.local-ttl-seconds:10}")
+    private long localTtlSeconds;
+
+    @Value("${search.cache.local-max-size:5000}")
+    private long localMaxSize;
+
+    @Value("${search.cache.redis-ttl-seconds:300}")
+    private long redisTtlSeconds;
+
+    private Cache<String, ProductResDto.ProductSearchListResDto> localCache;
+    // 인스턴스 메모리 캐시 무효화 횟수 (조회 시점과 다르면 메모리 캐시에 저장하지 않음)
+    private final AtomicLong localGeneration = new AtomicLong();
+    private Counter localHitCounter;
+    private Counter redisHitCounter;
+    private Counter missCounter;
+
+    @PostConstruct
+    public void init() {
+        localCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .maximumSize(localMaxSize)
+                .build();
+        localHitCounter = Counter.builder("search.cache.hits")
+                .tag("level", "local")
+                .description("상품 검색 결과 캐시 적중 수")
+                .register(meterRegistry);
+        redisHitCounter = Counter.builder("search.cache.hits")
+                .tag("level", "redis")
+                .description("상품 검색 결과 캐시 적중 수")
+                .register(meterRegistry);
+        missCounter = Counter.builder("search.cache.misses")
+                .description("상품 검색 결과 캐시 미적중 수")
+                .register(meterRegistry);
+    }
+
+    // 검색 조건으로 캐시 키 생성 (검색어는 소문자 변환, 공백 정리)
+    public String createKey(int pageNo, String query, String sorter, Integer minPrice, Integer maxPrice, Float star) {
+        String normalized = query.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        return normalized + "|" + sorter + "|" + minPrice + "|" + maxPrice + "|" + star + "|" + pageNo;
+    }
+
+    // 캐시 조회, 미적중이면 조회 시점의 버전을 담아 반환 (put에 그대로 전달)
+    public Lookup get(String key) {
+        long generation = localGeneration.get();
+        ProductResDto.ProductSearchListResDto cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            localHitCounter.increment();
+            return new Lookup(key, generation, null, Optional.of(cached));
+        }
+
+        String version = null;
+        try {
+            Object current = redisTemplate.opsForValue().get(VERSION_KEY);
+            version = current == null ? "0" : String.valueOf(current);
+            Object json = redisTemplate.opsForValue().get(redisKey(version, key));
+            if (json != null) {
+                ProductResDto.ProductSearchListResDto result = objectMapper.readValue((String) json, ProductResDto.ProductSearchListResDto.class);
+                putLocal(key, generation, result);
+                redisHitCounter.increment();
+                return new Lookup(key, generation, version, Optional.of(result));
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[ProductSearchCacheService] 검색 캐시 조회 실패: {}", e.getMessage());
+        }
+        missCounter.increment();
+        return new Lookup(key, generation, version, Optional.empty());
+    }
+
+    // 조회 시점의 버전으로 저장 (그사이 무효화됐으면 이전 버전 키에 저장되어 읽히지 않음)
+    public void put(Lookup lookup, ProductResDto.ProductSearchListResDto result) {
+        putLocal(lookup.getKey(), lookup.getGeneration(), result);
+        // 조회 때 Redis 버전을 읽지 못했으면 Redis에는 저장하지 않음
+        if (lookup.getVersion() == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(redisKey(lookup.getVersion(), lookup.getKey()),
+                    objectMapper.writeValueAsString(result), Duration.ofSeconds(redisTtlSeconds));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[ProductSearchCacheService] 검색 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // 검색 인덱스 변경 시 전체 무효화 (이전 버전 키는 TTL로 만료)
+    public void invalidateAll() {
+        localGeneration.incrementAndGet();
+        localCache.invalidateAll();
+        try {
+            redisTemplate.opsForValue().increment(VERSION_KEY);
+        } catch (DataAccessException e) {
+            log.warn("[ProductSearchCacheService] 검색 캐시 버전 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    // 조회 이후 무효화됐으면 저장하지 않음 (저장 직후 무효화된 경우도 다시 제거)
+    private void putLocal(String key, long generation, ProductResDto.ProductSearchListResDto result) {
+        if (localGeneration.get() != generation) {
+            return;
+        }
+        localCache.put(key, result);
+        if (localGeneration.get() != generation) {
+            localCache.invalidate(key);
+        }
+    }
+
+    private String redisKey(String version, String key) {
+        return RESULT_KEY_PREFIX + version + ":" + key;
+    }
+
+    // 캐시 조회 결과 (조회 시점의 메모리 캐시 세대, Redis 버전 포함)
+    @Getter
+    @AllArgsConstructor
+    public static class Lookup {
+        private String key;
+        private long generation;
+        private String version;
+        private Optional<ProductResDto.ProductSearchListResDto> result;
+    }
+}
@@ -1,27 +1,38 @@
 package com.dmarket.service;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.ElasticsearchTransport;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
+import com.dmarket.constant.ProductChangeType;
 import com.dmarket.domain.document.ProductDocument;
 import com.dmarket.domain.product.*;
 import com.dmarket.domain.user.User;
 import com.dmarket.dto.common.*;
 import com.dmarket.dto.request.ReviewReqDto;
 import com.dmarket.dto.response.CategoryResDto;
+import com.dmarket.dto.response.CursorResDto;
 import com.dmarket.dto.response.ProductResDto;
 import com.dmarket.dto.response.QnaResDto;
 import com.dmarket.elastic.ESUtil;
+import com.dmarket.elastic.SearchCircuitBreaker;
+import com.dmarket.event.ProductChangeEvent;
 import com.dmarket.exception.BadRequestException;
 import com.dmarket.exception.NotFoundException;
 import com.dmarket.repository.product.*;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.apache.http.Header;
 import org.apache.http.HttpHost;
 import org.apache.http.message.BasicHeader;
@@ -29,16 +40,15 @@ import org.elasticsearch.client.RestClient;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.io.IOException;
 import java.util.List;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import static com.dmarket.exception.ErrorCode.*;
 
@@ -52,17 +62,41 @@ public class ProductService {
     // 조회가 아닌 메서드들은 꼭 @Transactional 넣어주세요 (CUD, 입력/수정/삭제)
     private final CategoryRepository categoryRepository;
     private final ProductRepository productRepository;
+    private final ProductListingRepository productListingRepository;
     private final QnaRepository qnaRepository;
-    private final ProductImgsRepository productImgsRepository;
     private final ProductOptionRepository productOptionRepository;
     private final ProductReviewRepository productReviewRepository;
     private final UserService userService;
     private final ElasticsearchService elasticsearchService;
+    private final ProductSuggestService productSuggestService;
+    private final ProductDetailService productDetailService;
+    private final CategoryTree categoryTree;
+    private final HomeFeedService homeFeedService;
+    private final ProductRecommendService productRecommendService;
+    private final ApplicationEventPublisher publisher;
+    private final SearchCircuitBreaker searchCircuitBreaker;
+    private final ProductSearchCacheService productSearchCacheService;
+    private final MeterRegistry meterRegistry;
+    private final CacheManager cacheManager;
+
+    private Counter fallbackSearchCounter;
+    private Cache categoryProductCountCache;
+
+    @PostConstruct
+    public void registerMetrics() {
+        fallbackSearchCounter = Counter.builder("search.fallback")
+                .description("DB 검색으로 대체된 상품 검색 수")
+                .register(meterRegistry);
+        categoryProductCountCache = cacheManager.getCache(Category.RedisCacheKey.CATEGORY_PRODUCT_COUNT);
+    }
 
     private static final int PRODUCT_PAGE_POST_COUNT = 16;
     private static final int QNA_PAGE_POST_COUNT = 5;
     private static final int REVIEW_PAGE_POST_COUNT = 5;
+    private static final int RECOMMEND_PRODUCT_COUNT = 4;
     private static final Integer MAX_VALUE = 9999999;
+    // 검색 대체 경로에서 조회 가능한 최대 페이지 수
+    private static final int FALLBACK_MAX_PAGE = 10;
 
 
     /**
@@ -70,14 +104,13 @@ public class ProductService {
      */
 
     // 카테고리 전체 목록 depth별로 조회
-    @Cacheable(value = Category.RedisCacheKey.CATEGORY_LIST, key = "#categoryDepthLevel", cacheManager = "redisCacheManager") // 캐시 적용, 캐시 키 설정, 캐시 저장 기간
+    @Cacheable(value = Category.RedisCacheKey.CATEGORY_LIST, key = "#categoryDepthLevel") // 캐시 적용, 캐시 키 설정 (TTL은 CacheConfig)
     public List<CategoryResDto.CategoryListResDto> getCategories(Integer categoryDepthLevel) {
         return categoryRepository.findByCategoryDepth(categoryDepthLevel);
     }
 
-    public Category findCategoryById(Long cateId) {
-        return categoryRepository.findById(cateId)
-                .orElseThrow(() -> new NotFoundException(CATEGORY_NOT_FOUND));
+    public CategoryTree.Node findCategoryById(Long cateId) {
+        return categoryTree.getNode(cateId);
     }
 
     // 자식 카테고리 ID 조회
@@ -106,7 +139,50 @@ public class ProductService {
         star = starValidation(star);
 
         Pageable pageable = PageRequest.of(pageNo, PRODUCT_PAGE_POST_COUNT, Sort.by(Sort.Direction.DESC, sorter));
-        return productRepository.findByCateId(pageable, cateId, minPrice, maxPrice, star);
+        return productListingRepository.findByCateId(pageable, cateId, minPrice, maxPrice, star);
+    }
+
+    // 카테고리별 상품 목록 커서 조회 (count 쿼리 없음, withTotal이면 캐시된 근사 전체 개수 포함)
+    public CursorResDto<ProductResDto.ProductListResDto> getCategoryProductsByCursor(String after, Long cateId, String sorter, Integer minPrice,
+                                                                                   Integer maxPrice, Float star, boolean withTotal) {
+        findCategoryById(cateId);
+        String sortKey = sorterValidation(sorter);
+        Integer min = minPrice > MAX_VALUE ? MAX_VALUE : minPrice;
+        Integer max = maxPrice < 0 ? MAX_VALUE : maxPrice;
+        Float minStar = starValidation(star);
+
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        Long lastId = cursor == null ? null : cursor.getId();
+        Pageable pageable = PageRequest.of(0, PRODUCT_PAGE_POST_COUNT);
+        Slice<ProductResDto.ProductListResDto> products = switch (sortKey) {
+            case "product_created_date" -> productListingRepository.findByCateIdAfterCreatedDate(pageable, cateId, min, max, minStar,
+                    cursor == null ? null : cursor.getDateTimeValue(), lastId);
+            case "product_rating" -> productListingRepository.findByCateIdAfterRating(pageable, cateId, min, max, minStar,
+                    cursor == null ? null : cursor.getDoubleValue(), lastId);
+            default -> productListingRepository.findByCateIdAfterReviewCnt(pageable, cateId, min, max, minStar,
+                    cursor == null ? null : cursor.getLongValue(), lastId);
+        };
+
+        String nextCursor = null;
+        if (products.hasNext()) {
+            ProductResDto.ProductListResDto last = products.getContent().get(products.getNumberOfElements() - 1);
+            Object sortValue = switch (sortKey) {
+                case "product_created_date" -> last.getProductCreatedDate();
+                // float의 정확한 double 값으로 저장 (쿼리에서 double로 비교)
+                case "product_rating" -> last.getProductRating() == null ? 0D : (double) last.getProductRating();
+                default -> last.getProductReviewCount();
+            };
+            nextCursor = KeysetCursor.encode(sortValue, last.getProductId());
+        }
+        Long total = withTotal ? countCategoryProducts(cateId, min, max, minStar) : null;
+        return new CursorResDto<>(nextCursor, total, products.getContent());
+    }
+
+    // 카테고리 상품 수 (짧은 TTL로 캐시한 근사값)
+    private Long countCategoryProducts(Long cateId, Integer minPrice, Integer maxPrice, Float star) {
+        String key = cateId + ":" + minPrice + ":" + maxPrice + ":" + star;
+        Number count = categoryProductCountCache.<Number>get(key, () -> productListingRepository.countByCateId(cateId, minPrice, maxPrice, star));
+        return count == null ? 0L : count.longValue();
     }
 
     // 상품 목록 조건 검색
@@ -138,23 +214,132 @@ public class ProductService {
         maxPrice = maxPrice < minPrice ? minPrice : maxPrice > MAX_VALUE ? MAX_VALUE : maxPrice;
         star = starValidation(star);
 
-        if (sorter.equals("review_count")){
-            return elasticsearchService.getElasticSearchProductsReviewORder(pageNo, query, sorter, minPrice, maxPrice, star);
+        String cacheKey = productSearchCacheService.createKey(pageNo, query, sorter, minPrice, maxPrice, star);
+        ProductSearchCacheService.Lookup cached = productSearchCacheService.get(cacheKey);
+        if (cached.getResult().isPresent()) {
+            return cached.getResult().get();
+        }
+
+        // 검색 차단 중이면 DB 검색으로 대체
+        if (!searchCircuitBreaker.allowRequest()) {
+            return getFallbackSearchProducts(pageNo, query, sorter, minPrice, maxPrice, star);
+        }
+        ProductResDto.ProductSearchListResDto result;
+        try {
+            result = elasticsearchService.getElasticSearchProducts(pageNo, query, sorter, minPrice, maxPrice, star);
+        } catch (IOException | ElasticsearchException e) {
+            searchCircuitBreaker.recordFailure();
+            log.warn("[ProductService] Elasticsearch 검색 실패, DB 검색으로 대체: {}", e.getMessage());
+            return getFallbackSearchProducts(pageNo, query, sorter, minPrice, maxPrice, star);
+        } catch (BadRequestException e) {
+            // 잘못된 요청은 Elasticsearch 상태와 무관하므로 시험 호출만 반납
+            searchCircuitBreaker.releaseTrial();
+            throw e;
+        } catch (RuntimeException e) {
+            // 그 밖의 예외도 결과를 남겨야 HALF_OPEN에 머무르지 않음
+            searchCircuitBreaker.recordFailure();
+            throw e;
+        }
+        searchCircuitBreaker.recordSuccess();
+        // Elasticsearch 결과만 캐시 (대체 경로 결과는 저장하지 않음)
+        productSearchCacheService.put(cached, result);
+        return result;
+    }
+
+    // 검색 대체 경로 (DB LIKE 검색, 조회 가능한 페이지 수 제한)
+    private ProductResDto.ProductSearchListResDto getFallbackSearchProducts(int pageNo, String query, String sorter,
+                                                                          Integer minPrice, Integer maxPrice, Float star) {
+        if (pageNo >= FALLBACK_MAX_PAGE) {
+            fallbackSearchCounter.increment();
+            return new ProductResDto.ProductSearchListResDto(FALLBACK_MAX_PAGE, new ArrayList<>());
+        }
+        Page<ProductResDto.ProductListResDto> products = findFallbackPage(pageNo, query, sorter, minPrice, maxPrice, star);
+        return new ProductResDto.ProductSearchListResDto(Math.min(products.getTotalPages(), FALLBACK_MAX_PAGE), toSearchList(products));
+    }
+
+    private Page<ProductResDto.ProductListResDto> findFallbackPage(int pageNo, String query, String sorter,
+                                                                  Integer minPrice, Integer maxPrice, Float star) {
+        fallbackSearchCounter.increment();
+        Pageable pageable = PageRequest.of(pageNo, PRODUCT_PAGE_POST_COUNT, Sort.by(Sort.Direction.DESC, sorterTranslate(sorter)));
+        return productRepository.findByQuery(pageable, query, minPrice, maxPrice, star);
+    }
+
+    private List<ProductCommonDto.ProductSearchListDto> toSearchList(Page<ProductResDto.ProductListResDto> products) {
+        return products.getContent().stream()
+                .map(product -> new ProductCommonDto.ProductSearchListDto(
+                        product.getProductId(),
+                        product.getProductBrand(),
+                        product.getProductName(),
+                        product.getProductImg(),
+                        product.getProductSalePrice(),
+                        product.getProductDiscountRate(),
+                        product.getProductRating(),
+                        product.getProductReviewCount().intValue()))
+                .toList();
+    }
+
+    // 검색어 자동완성
+    public List<ProductResDto.ProductSuggestResDto> getSuggestions(String query, int limit) {
+        return productSuggestService.suggest(query, limit);
+    }
+
+    // 커서 기반 검색
+    public ProductResDto.ProductSearchCursorResDto getSearchProductsByCursor(String cursor, String query, String sorter,
+                                                                            Integer minPrice, Integer maxPrice, Float star) throws IOException {
+        if (query.isEmpty()) {
+            throw new BadRequestException(INVALID_SEARCH_VALUE);
+        }
+        sorter = sorterValidation(sorter);
+        minPrice = minPrice < 0 ? 0 : minPrice > MAX_VALUE ? MAX_VALUE : minPrice;
+        maxPrice = maxPrice < minPrice ? minPrice : maxPrice > MAX_VALUE ? MAX_VALUE : maxPrice;
+        star = starValidation(star);
+
+        // 잘못된 커서는 시험 호출을 소모하지 않도록 차단기 확인 전에 거름
+        elasticsearchService.validateCursor(cursor);
+
+        // 검색 차단 중이면 DB 검색으로 대체
+        if (!searchCircuitBreaker.allowRequest()) {
+            return getFallbackSearchProductsByCursor(cursor, query, sorter, minPrice, maxPrice, star);
+        }
+        ProductResDto.ProductSearchCursorResDto result;
+        try {
+            result = elasticsearchService.getElasticSearchProductsByCursor(cursor, query, sorter, minPrice, maxPrice, star);
+        } catch (IOException | ElasticsearchException e) {
+            searchCircuitBreaker.recordFailure();
+            log.warn("[ProductService] Elasticsearch 검색 실패, DB 검색으로 대체: {}", e.getMessage());
+            return getFallbackSearchProductsByCursor(cursor, query, sorter, minPrice, maxPrice, star);
+        } catch (BadRequestException e) {
+            // 만료된 커서 등 잘못된 요청은 Elasticsearch 상태와 무관하므로 시험 호출만 반납
+            searchCircuitBreaker.releaseTrial();
+            throw e;
+        } catch (RuntimeException e) {
+            searchCircuitBreaker.recordFailure();
+            throw e;
+        }
+        searchCircuitBreaker.recordSuccess();
+        return result;
+    }
+
+    // 커서 검색 대체 경로: 첫 페이지만 DB 검색으로 제공 (이어보던 커서는 DB 검색으로 이어갈 수 없으므로 커서 오류로 응답)
+    private ProductResDto.ProductSearchCursorResDto getFallbackSearchProductsByCursor(String cursor, String query, String sorter,
+                                                                                    Integer minPrice, Integer maxPrice, Float star) {
+        if (cursor != null && !cursor.isBlank()) {
+            throw new BadRequestException(INVALID_SEARCH_CURSOR);
         }
-        return elasticsearchService.getElasticSearchProducts(pageNo, query, sorter, minPrice, maxPrice, star);
+        Page<ProductResDto.ProductListResDto> products = findFallbackPage(0, query, sorter, minPrice, maxPrice, star);
+        return new ProductResDto.ProductSearchCursorResDto(Math.min(products.getTotalPages(), FALLBACK_MAX_PAGE),
+                (int) products.getTotalElements(), null, toSearchList(products));
     }
 
     // 추천 상품 조회
     public List<ProductResDto.RecommendProductResDto> recommendProduct(Long productId) {
-
-        // PageRequest의 pageSize 4로 지정 최신 4개만 조회
-        return productRepository.findRecommendProduct(productId,
-                PageRequest.of(0, 4, Sort.by(Sort.Direction.DESC, "productCreatedDate")));
+        // 함께 구매/찜한 상품 우선, 부족하면 같은 카테고리 최신 상품
+        return productRecommendService.recommend(productId, RECOMMEND_PRODUCT_COUNT);
     }
 
-    // 최신 상품 조회
-    public List<ProductResDto.NewProductResDto> findNewProducts() {
-        return productRepository.findNewProducts();
+    // 최신 상품 조회 (메모리에 유지 중인 홈 화면 레일)
+    public List<ProductResDto.ProductCardResDto> findNewProducts() {
+        return homeFeedService.getNewProducts(PRODUCT_PAGE_POST_COUNT);
     }
 
     /**
@@ -162,65 +347,29 @@ public class ProductService {
      * 2024-02-06 jupiter
      */
     // 할인율 높은 순으로 조회
-//    public List<ProductResDto.NewProductResDto> findHighDiscountRateProducts(Long categoryId) {
+//    public List<ProductResDto.ProductCardResDto> findHighDiscountRateProducts(Long categoryId) {
 //        return productRepository.findHighDiscountRateProducts(categoryId);
 //    }
 
     // 할인율 높은 순 상품 limit개 조회 (전체 카테고리)
-    public List<ProductResDto.NewProductResDto> findHighDiscountRateProducts(Integer limit) {
-        return productRepository.findProductsByDiscountRate(PageRequest.of(0, limit));
+    public List<ProductResDto.ProductCardResDto> findHighDiscountRateProducts(Integer limit) {
+        return homeFeedService.getTopDiscountProducts(limit);
     }
 
-    // 할인율 높은 순 상품 limit개 조회 (카테고리 별)
-    public List<ProductResDto.NewProductResDto> findHighDiscountRateProducts(Long categoryId, Integer limit) {
-
-        ArrayList<ProductResDto.NewProductResDto> totalList = new ArrayList<>();
-        List<Long> childCategoriesId = categoryRepository.findCategoryIdByParentId(categoryId);
-
-        for (Long id : childCategoriesId) {
-            List<ProductResDto.NewProductResDto> products = productRepository.findProductsByDiscountRate(id, PageRequest.of(0, limit));
-            totalList.addAll(products);
-        }
-
-        return totalList.stream().sorted(Comparator.comparing(ProductResDto.NewProductResDto::getProductDiscountRate).reversed()).limit(limit).collect(Collectors.toList());
+    // 할인율 높은 순 상품 limit개 조회 (하위 카테고리 포함)
+    public List<ProductResDto.ProductCardResDto> findHighDiscountRateProducts(Long categoryId, Integer limit) {
+        return homeFeedService.getTopDiscountProducts(categoryId, limit);
     }
 
     // 최신 상품 조회 - 매핑
-    public List<Object> mapToResponseFormat(List<ProductResDto.NewProductResDto> latestProducts, Integer size) {
-        return latestProducts.stream()
-                .limit(size).map(product -> new Object() {
-                    public final Long productId = product.getProductId();
-                    public final String productBrand = product.getProductBrand();
-                    public final String productName = product.getProductName();
-                    public final String productImg = product.getProductImg();
-                    public final String productPrice = String.valueOf(product.getProductPrice());
-                    public final String productDiscountRate = String.valueOf(product.getProductDiscountRate());
-                    public final String productSalePrice = String.valueOf(product.getProductSalePrice());
-                })
-                .collect(Collectors.toList());
+    public List<ProductResDto.ProductCardResDto> mapToResponseFormat(List<ProductResDto.ProductCardResDto> latestProducts, Integer size) {
+        // 레일 스냅샷이 이미 응답용 카드이므로 개수만 자름
+        return latestProducts.size() <= size ? latestProducts : latestProducts.subList(0, size);
     }
 
     // 상품 상세 정보 조회
     public ProductResDto.ProductInfoResDto getProductInfo(Long productId) {
-
-        // 싱품 정보 조회
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다."));
-        // 상품의 카테고리 depth 1, depth2 조회 후 합치기
-        Category category = categoryRepository.findByCategoryId(product.getCategoryId());
-        String productCategory = category.getParent().getCategoryName() + " > " + category.getCategoryName();
-
-        // 상품의 리뷰 개수 조회
-        Long reviewCnt = productReviewRepository.countByProductId(productId);
-
-        // 상품 옵션 목록, 옵션별 재고 조회
-        List<ProductCommonDto.ProductOptionDto> opts = productOptionRepository.findOptionsByProductId(productId);
-
-        // 상품 이미지 목록 조회
-        List<String> imgs = productImgsRepository.findAllByProductId(productId);
-
-        // DTO 생성 및 반환
-        return new ProductResDto.ProductInfoResDto(product, productCategory, reviewCnt, opts, imgs);
+        return productDetailService.getProductInfo(productId);
     }
 
     public ProductCommonDto.ProductDto findProductByProductId(Long productId) {
@@ -274,6 +423,22 @@ public class ProductService {
         return qnaRepository.findQnasByProductId(productId, pageable);
     }
 
+    // 상품 별 Q&A 커서 조회 (count 쿼리 없음)
+    public CursorResDto<QnaResDto.QnaProductIdListResDto> findQnasByProductIdByCursor(Long productId, String after) {
+        findProductById(productId);
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        Slice<QnaResDto.QnaProductIdListResDto> qnas = qnaRepository.findQnasByProductIdAfter(productId,
+                cursor == null ? null : cursor.getDateTimeValue(), cursor == null ? null : cursor.getId(),
+                PageRequest.of(0, QNA_PAGE_POST_COUNT));
+
+        String nextCursor = null;
+        if (qnas.hasNext()) {
+            QnaResDto.QnaProductIdListResDto last = qnas.getContent().get(qnas.getNumberOfElements() - 1);
+            nextCursor = KeysetCursor.encode(last.getQnaCreatedDate(), last.getQnaId());
+        }
+        return new CursorResDto<>(nextCursor, null, qnas.getContent());
+    }
+
 
     /**
      * 리뷰: Review
@@ -296,6 +461,23 @@ public class ProductService {
         return new ProductResDto.ProductReviewListResDto(product, reviewList.getTotalPages(), reviewList.getContent());
     }
 
+    // 상품별 사용자 리뷰 커서 조회 (count 쿼리 없음, 전체 개수는 상품의 리뷰 수 사용)
+    public ProductResDto.ProductReviewCursorResDto getReviewListByCursor(Long productId, String after) {
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        ProductCommonDto.ProductDto product = findProductByProductId(productId);
+
+        Slice<ProductCommonDto.ProductReviewDto> reviews = productReviewRepository.findReviewByProductIdAfter(
+                PageRequest.of(0, REVIEW_PAGE_POST_COUNT), productId,
+                cursor == null ? null : cursor.getDateTimeValue(), cursor == null ? null : cursor.getId());
+
+        String nextCursor = null;
+        if (reviews.hasNext()) {
+            ProductCommonDto.ProductReviewDto last = reviews.getContent().get(reviews.getNumberOfElements() - 1);
+            nextCursor = KeysetCursor.encode(last.getReviewCreatedDate(), last.getReviewId());
+        }
+        return new ProductResDto.ProductReviewCursorResDto(product, nextCursor, reviews.getContent());
+    }
+
     // 리뷰 작성
     @Transactional
     public void saveReview(ReviewReqDto reviewReqDto, Long productId) {
@@ -311,32 +493,23 @@ public class ProductService {
                 .build();
         productReviewRepository.save(productReview);
 
-        // 상품 정보에 별점 반영
-        updateProductRating(productId, reviewReqDto.getReviewRating());
-    }
-
-    @Transactional
-    public void updateProductRating(Long productId, Integer reviewRating) {
-
-        Product product = findProductById(productId);
-
-        // 기존 별점
-        Float productRating = product.getProductRating();
+        // 상품의 리뷰 수, 별점 합계, 평균 별점 반영
+        productRepository.applyReviewDelta(productId, 1, reviewReqDto.getReviewRating());
 
-        // 리뷰 수
-        Long totalReview = productReviewRepository.countByProductId(productId);
-
-        // 리뷰 별점을 반영한 상품 별점
-        Float newRating = (productRating * (totalReview - 1L) + reviewRating) / totalReview;
-
-        product.updateRating(newRating);
+        publisher.publishEvent(ProductChangeEvent.of(productId, ProductChangeType.REVIEW));
     }
 
     //리뷰 삭제
     @Transactional
     public void deleteReviewByReviewId(Long reviewId) {
-        findReviewById(reviewId);
+        ProductReview review = findReviewById(reviewId);
+        Long productId = review.getProductId();
         productReviewRepository.deleteByReviewId(reviewId);
+
+        // 삭제한 리뷰만큼 리뷰 수, 별점 합계, 평균 별점 차감
+        productRepository.applyReviewDelta(productId, -1, -review.getReviewRating());
+
+        publisher.publishEvent(ProductChangeEvent.of(productId, ProductChangeType.REVIEW));
     }
 
 
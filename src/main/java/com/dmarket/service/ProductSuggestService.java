@@ -0,0 +1,150 @@
+package com.dmarket.service;
+
+import com.dmarket.constant.ProductChangeType;
+import com.dmarket.dto.common.ProductCommonDto;
+import com.dmarket.dto.response.ProductResDto;
+import com.dmarket.event.ProductChangeEvent;
+import com.dmarket.repository.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 검색어 자동완성
+ * - 상품명/브랜드를 정규화한 문자열을 정렬된 맵에 올려두고 접두사 범위 조회로 응답 (Elasticsearch 미사용)
+ * - 상품명은 단어 시작 위치마다 키를 만들어 중간 단어로도 검색되도록 함
+ * - 시작 시 전체 적재, 이후 상품 변경 이벤트마다 해당 상품만 다시 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductSuggestService {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final int MAX_LIMIT = 20;
+
+    private final ProductRepository productRepository;
+
+    // "정규화된 검색어 + 구분자 + 상품 번호" -> 자동완성 항목
+    private final ConcurrentSkipListMap<String, Suggestion> index = new ConcurrentSkipListMap<>();
+    // 상품 번호 -> 등록된 키 목록 (상품 변경 시 기존 키 제거용)
+    private final Map<Long, List<String>> keysByProduct = new ConcurrentHashMap<>();
+
+    // 접두사로 자동완성 검색어 조회
+    public List<ProductResDto.ProductSuggestResDto> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        List<ProductResDto.ProductSuggestResDto> result = new ArrayList<>();
+        if (normalized.isEmpty()) {
+            return result;
+        }
+        limit = Math.min(Math.max(limit, 1), MAX_LIMIT);
+
+        // 같은 문구(브랜드 등)는 한 번만 노출
+        Set<String> seen = new LinkedHashSet<>();
+        for (Suggestion suggestion : index.subMap(normalized, true, normalized + Character.MAX_VALUE, true).values()) {
+            if (seen.add(suggestion.type + KEY_SEPARATOR + suggestion.keyword)) {
+                result.add(new ProductResDto.ProductSuggestResDto(suggestion.keyword, suggestion.type,
+                        suggestion.type.equals(Suggestion.NAME) ? suggestion.productId : null));
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    // 애플리케이션 시작 시 전체 상품 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        List<ProductCommonDto.ProductSuggestDto> products = productRepository.findSuggestProducts();
+        for (ProductCommonDto.ProductSuggestDto product : products) {
+            put(product);
+        }
+        log.info("[ProductSuggestService] 자동완성 색인 완료: 상품 {}개, 키 {}개", products.size(), index.size());
+    }
+
+    // 상품 변경 커밋 후 해당 상품만 다시 반영
+    @TransactionalEventListener
+    public void onProductChange(ProductChangeEvent event) {
+        // 재고 변경은 자동완성과 무관
+        if (event.getType() == ProductChangeType.STOCK) {
+            return;
+        }
+        Long productId = event.getProductId();
+        productRepository.findSuggestProductById(productId)
+                .ifPresentOrElse(this::put, () -> remove(productId));
+    }
+
+    private void put(ProductCommonDto.ProductSuggestDto product) {
+        List<String> keys = new ArrayList<>();
+        Long productId = product.getProductId();
+
+        String name = normalize(product.getProductName());
+        if (!name.isEmpty()) {
+            // 단어 시작 위치마다 키 생성 ("남성 데님 팬츠" -> "남성 데님 팬츠", "데님 팬츠", "팬츠")
+            Suggestion suggestion = new Suggestion(productId, product.getProductName().trim(), Suggestion.NAME);
+            int start = 0;
+            while (start >= 0) {
+                String key = name.substring(start) + KEY_SEPARATOR + productId;
+                keys.add(key);
+                index.put(key, suggestion);
+                int space = name.indexOf(' ', start);
+                start = space < 0 ? -1 : space + 1;
+            }
+        }
+
+        String brand = normalize(product.getProductBrand());
+        if (!brand.isEmpty()) {
+            String key = brand + KEY_SEPARATOR + Suggestion.BRAND + KEY_SEPARATOR + productId;
+            keys.add(key);
+            index.put(key, new Suggestion(productId, product.getProductBrand().trim(), Suggestion.BRAND));
+        }
+
+        List<String> previous = keysByProduct.put(productId, keys);
+        if (previous != null) {
+            previous.stream().filter(key -> !keys.contains(key)).forEach(index::remove);
+        }
+    }
+
+    private void remove(Long productId) {
+        List<String> previous = keysByProduct.remove(productId);
+        if (previous != null) {
+            previous.forEach(index::remove);
+        }
+    }
+
+    // 소문자 변환, 공백 정리
+    private String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    private static class Suggestion {
+        private static final String NAME = "name";
+        private static final String BRAND = "brand";
+
+        private final Long productId;
+        private final String keyword;
+        private final String type;
+
+        private Suggestion(Long productId, String keyword, String type) {
+            this.productId = productId;
+            this.keyword = keyword;
+            this.type = type;
+        }
+    }
+}
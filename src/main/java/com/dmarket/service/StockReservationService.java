@@ -0,0 +1,293 @@
+package com.dmarket.service;
+
+import com.dmarket.constant.ProductChangeType;
+import com.dmarket.event.AfterCommit;
+import com.dmarket.event.ProductChangeEvent;
+import com.dmarket.repository.product.ProductOptionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 옵션별 재고 예약 엔진
+ * - 옵션 재고를 메모리 카운터로 올려두고 compare-and-decrement로 차감 (락 없이 초과 판매 방지)
+ * - 확정된 차감분은 옵션별로 모아두었다가 주기적으로 product_option 테이블에 반영
+ * - 확정되지 않은 예약은 만료 시 재고로 되돌리고, 만료 후 커밋된 예약은 확정 시 다시 차감
+ * - 주문 취소, 관리자 재고 추가는 호출한 트랜잭션이 커밋된 뒤에만 카운터에 반영
+ * 카운터는 인스턴스 메모리에 있으므로 반드시 단일 인스턴스로 운영해야 합니다.
+ * (여러 인스턴스가 같은 DB 재고를 각자 카운터로 올리면 인스턴스 수만큼 초과 판매될 수 있음)
+ * 정상 종료 시에는 남은 차감분을 마지막으로 DB에 반영하지만, 프로세스가 비정상 종료되면
+ * 마지막 반영 이후(최대 반영 주기 1초 + 반영 트랜잭션 시간) 확정된 차감분은 유실되어 DB 재고가 그만큼 많게 남습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    private final ProductOptionRepository productOptionRepository;
+    private final ApplicationEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // 결제 트랜잭션이 끝나기까지 허용하는 최대 시간 (넘으면 재고를 되돌리고, 이후 커밋되면 다시 차감)
+    @Value("${stock.reservation.ttl-ms:60000}")
+    private long reservationTtlMs;
+
+    // optionId -> 판매 가능 재고
+    private final ConcurrentHashMap<Long, AtomicInteger> available = new ConcurrentHashMap<>();
+    // optionId -> DB에 아직 반영되지 않은 차감 수량 (음수면 복구)
+    private final ConcurrentHashMap<Long, AtomicInteger> pendingDeltas = new ConcurrentHashMap<>();
+    // optionId -> DB에 반영 중이지만 아직 커밋되지 않은 차감 수량
+    private final ConcurrentHashMap<Long, AtomicInteger> inFlightDeltas = new ConcurrentHashMap<>();
+    // reservationId -> 확정 대기 중인 예약
+    private final ConcurrentHashMap<Long, Reservation> reservations = new ConcurrentHashMap<>();
+    private final AtomicLong reservationSequence = new AtomicLong();
+
+    /**
+     * 예약
+     */
+    // 재고 예약 (카운터가 없으면 DB 재고에서 아직 반영되지 않은 차감분을 빼고 올림), 부족하면 IllegalStateException
+    public Long reserve(Long optionId, Integer count) {
+        if (count == null || count <= 0) {
+            throw new IllegalArgumentException("주문 수량을 확인하세요. optionId=" + optionId);
+        }
+        AtomicInteger stock = counterOf(optionId);
+        if (!tryDecrement(stock, count)) {
+            throw new IllegalStateException("[재고 부족]: optionId=" + optionId + ", 요청 재고=" + count + ", 현재 재고=" + stock.get());
+        }
+        Long reservationId = reservationSequence.incrementAndGet();
+        reservations.put(reservationId, new Reservation(optionId, count, System.currentTimeMillis() + reservationTtlMs));
+        return reservationId;
+    }
+
+    // 예약 확정 -> DB 반영 대기열로 이동
+    public void confirm(Long reservationId) {
+        Reservation reservation = reservations.remove(reservationId);
+        if (reservation == null) {
+            log.warn("[StockReservation] 존재하지 않는 예약 확정 요청: reservationId={}", reservationId);
+            return;
+        }
+        if (reservation.expired) {
+            // 만료로 재고가 이미 복구된 뒤 주문이 커밋됨 -> 다시 차감 (그사이 옵션이 삭제됐으면 차감할 재고 없음)
+            AtomicInteger stock = findCounter(reservation.optionId);
+            if (stock == null) {
+                log.warn("[StockReservation] 삭제된 옵션의 만료 예약 확정: reservationId={}, optionId={}", reservationId, reservation.optionId);
+            } else if (!tryDecrement(stock, reservation.count)) {
+                // 그 사이 재고가 다시 팔림: 주문은 이미 커밋되었으므로 차감은 그대로 반영하고 초과 판매로 알림
+                stock.addAndGet(-reservation.count);
+                log.error("[StockReservation] 초과 판매: 만료 후 커밋된 예약을 재고 부족으로 다시 차감하지 못함. reservationId={}, optionId={}, count={}, 현재 재고={}",
+                        reservationId, reservation.optionId, reservation.count, stock.get());
+            } else {
+                log.warn("[StockReservation] 만료 후 커밋된 예약 다시 차감: reservationId={}, optionId={}, count={}",
+                        reservationId, reservation.optionId, reservation.count);
+            }
+        }
+        addDelta(pendingDeltas, reservation.optionId, reservation.count);
+    }
+
+    // 예약 취소 -> 재고 복구 (만료로 이미 복구된 예약, 삭제된 옵션은 제외)
+    public void release(Long reservationId) {
+        Reservation reservation = reservations.remove(reservationId);
+        if (reservation != null && !reservation.expired) {
+            restore(reservation.optionId, reservation.count);
+        }
+    }
+
+    // 확정된 주문 취소 시 재고 복구 (취소 트랜잭션 커밋 후 반영, 삭제된 옵션은 제외)
+    public void restock(Long optionId, Integer count) {
+        AfterCommit.run(() -> {
+            if (restore(optionId, count)) {
+                addDelta(pendingDeltas, optionId, -count);
+            }
+        });
+    }
+
+    // 관리자가 DB 재고를 직접 변경한 경우 카운터에 반영 (재고 변경 트랜잭션 커밋 후 반영)
+    public void adjust(Long optionId, Integer delta) {
+        AfterCommit.run(() -> {
+            AtomicInteger stock = available.get(optionId);
+            if (stock != null) {
+                stock.addAndGet(delta);
+            }
+        });
+    }
+
+    // 옵션이 삭제되거나 다시 생성된 경우 카운터 제거
+    public void evict(Long optionId) {
+        available.remove(optionId);
+    }
+
+    // 옵션 삭제/재생성 트랜잭션 커밋 후 카운터 제거 (커밋 전에 제거하면 동시 결제가 삭제 중인 옵션 재고를 다시 올림)
+    public void evictAfterCommit(Long optionId) {
+        AfterCommit.run(() -> evict(optionId));
+    }
+
+    // 현재 판매 가능 재고 (카운터가 없으면 null)
+    public Integer getAvailable(Long optionId) {
+        AtomicInteger stock = available.get(optionId);
+        return stock == null ? null : stock.get();
+    }
+
+    /**
+     * 스케줄링
+     */
+    // 확정 대기 중인 차감분을 옵션별로 모아 DB에 반영
+    // 스케줄러와 종료 시 반영이 겹치지 않도록 한 번에 하나만 실행
+    @Transactional
+    @Scheduled(fixedDelay = 1000)
+    public synchronized void flush() {
+        Map<Long, Integer> deltas = new HashMap<>();
+        for (Map.Entry<Long, AtomicInteger> entry : pendingDeltas.entrySet()) {
+            int delta = entry.getValue().get();
+            if (delta != 0) {
+                // 반영 중 차감분에 먼저 더한 뒤 대기열에서 빼서, 그 사이 카운터를 DB에서 읽어도 차감분이 빠지도록 함
+                addDelta(inFlightDeltas, entry.getKey(), delta);
+                entry.getValue().addAndGet(-delta);
+                deltas.put(entry.getKey(), delta);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    settle(deltas, status == STATUS_COMMITTED);
+                }
+            });
+            deltas.forEach(productOptionRepository::decreaseOptionQuantity);
+        } else {
+            try {
+                deltas.forEach(productOptionRepository::decreaseOptionQuantity);
+            } catch (RuntimeException e) {
+                settle(deltas, false);
+                throw e;
+            }
+            settle(deltas, true);
+        }
+        // 재고 여부가 바뀌었을 수 있으므로 상품 목록 읽기 모델 갱신
+        productOptionRepository.findProductIdsByOptionIdIn(deltas.keySet())
+                .forEach(productId -> publisher.publishEvent(ProductChangeEvent.of(productId, ProductChangeType.STOCK)));
+        log.debug("[StockReservation] 재고 반영 완료: {}", deltas);
+    }
+
+    // 종료 시 남은 차감분 반영 (재시작 후 DB 재고로 카운터를 다시 올리므로 반영하지 않으면 같은 재고가 다시 팔림)
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> flush());
+            log.info("[StockReservation] 종료 전 재고 반영 완료");
+        } catch (RuntimeException e) {
+            log.error("[StockReservation] 종료 전 재고 반영 실패, 미반영 차감분: {}", pendingDeltas, e);
+        }
+    }
+
+    // 확정되지 않은 채 만료된 예약의 재고 복구
+    @Scheduled(fixedDelay = 10000)
+    public void expireReservations() {
+        long now = System.currentTimeMillis();
+        reservations.forEach((reservationId, reservation) -> {
+            // 확정/취소와 겹치지 않도록 만료 표시에 성공한 경우에만 재고 복구 (예약은 확정/취소 시 제거)
+            if (!reservation.expired && reservation.expiresAt < now
+                    && reservations.replace(reservationId, reservation, reservation.expire())) {
+                log.warn("[StockReservation] 예약 만료: reservationId={}, optionId={}, count={}", reservationId, reservation.optionId, reservation.count);
+                restore(reservation.optionId, reservation.count);
+            }
+        });
+    }
+
+    // 반영 중 차감분 정리 (실패하면 다음 주기에 다시 시도하도록 대기열로 되돌림)
+    private void settle(Map<Long, Integer> deltas, boolean committed) {
+        deltas.forEach((optionId, delta) -> {
+            if (!committed) {
+                addDelta(pendingDeltas, optionId, delta);
+            }
+            addDelta(inFlightDeltas, optionId, -delta);
+        });
+    }
+
+    private boolean tryDecrement(AtomicInteger stock, int count) {
+        while (true) {
+            int current = stock.get();
+            if (current < count) {
+                return false;
+            }
+            if (stock.compareAndSet(current, current - count)) {
+                return true;
+            }
+        }
+    }
+
+    private void addDelta(ConcurrentHashMap<Long, AtomicInteger> deltas, Long optionId, int delta) {
+        deltas.computeIfAbsent(optionId, id -> new AtomicInteger()).addAndGet(delta);
+    }
+
+    // 재고 복구, 옵션이 삭제되어 복구할 카운터가 없으면 false
+    private boolean restore(Long optionId, int count) {
+        AtomicInteger stock = findCounter(optionId);
+        if (stock == null) {
+            log.warn("[StockReservation] 삭제된 옵션의 재고 복구 생략: optionId={}, count={}", optionId, count);
+            return false;
+        }
+        stock.addAndGet(count);
+        return true;
+    }
+
+    private AtomicInteger counterOf(Long optionId) {
+        AtomicInteger stock = findCounter(optionId);
+        if (stock == null) {
+            throw new IllegalArgumentException("존재하지 않는 옵션입니다.");
+        }
+        return stock;
+    }
+
+    // 카운터 조회, 없으면 DB 재고로 올림 (옵션이 삭제됐으면 null)
+    private AtomicInteger findCounter(Long optionId) {
+        return available.computeIfAbsent(optionId, id -> productOptionRepository.findQuantityByOptionId(id)
+                // 아직 DB에 반영되지 않았거나 반영 중(미커밋)인 차감분 제외
+                .map(quantity -> new AtomicInteger(quantity - deltaOf(pendingDeltas, id) - deltaOf(inFlightDeltas, id)))
+                .orElse(null));
+    }
+
+    private int deltaOf(ConcurrentHashMap<Long, AtomicInteger> deltas, Long optionId) {
+        AtomicInteger delta = deltas.get(optionId);
+        return delta == null ? 0 : delta.get();
+    }
+
+    private static class Reservation {
+        private final Long optionId;
+        private final int count;
+        private final long expiresAt;
+        // 만료되어 재고가 이미 복구된 예약 (커밋되면 다시 차감)
+        private final boolean expired;
+
+        private Reservation(Long optionId, int count, long expiresAt) {
+            this(optionId, count, expiresAt, false);
+        }
+
+        private Reservation(Long optionId, int count, long expiresAt, boolean expired) {
+            this.optionId = optionId;
+            this.count = count;
+            this.expiresAt = expiresAt;
+            this.expired = expired;
+        }
+
+        private Reservation expire() {
+            return new Reservation(optionId, count, expiresAt, true);
+        }
+    }
+}
@@ -35,8 +35,11 @@ import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import static com.dmarket.exception.ErrorCode.*;
 
@@ -50,7 +53,9 @@ public class UserService {
     private final QnaRepository qnaRepository;
     private final OrderRepository orderRepository;
     private final OrderDetailRepository orderDetailRepository;
-    private final CartRepository cartRepository;
+    private final CartStoreService cartStoreService;
+    private final BadgeCounterService badgeCounterService;
+    private final WishMembershipService wishMembershipService;
     private final WishlistRepository wishlistRepository;
     private final UserRepository userRepository;
     private final MileageRepository mileageRepository;
@@ -60,6 +65,7 @@ public class UserService {
     private final MailService mailService;
     private final RedisService redisService;
     private final ReturnRepository returnRepository;
+    private final StockReservationService stockReservationService;
 
     @Value("${spring.mail.auth-code-expiration-millis}")
     private long authCodeExpirationMillis;
@@ -67,6 +73,8 @@ public class UserService {
 
     private static final int DEFAULT_PAGE_SIZE = 10;
     private static final int REVIEW_PAGE_SIZE = 5;
+    // 찜 여부를 한 번에 확인할 수 있는 최대 상품 수
+    private static final int MAX_WISH_CHECK_SIZE = 100;
 
     /**
      * 회원가입
@@ -167,40 +175,32 @@ public class UserService {
     /**
      * 장바구니 (cart)
      */
-    // 장바구니 상품 개수 조회
+    // 장바구니 상품 개수 조회 (Redis 장바구니 저장소)
     public CartResDto.CartCountResDto getCartCount(Long userId) {
-        return cartRepository.findCountByUserId(userId);
+        return new CartResDto.CartCountResDto((long) cartStoreService.count(userId));
+    }
+
+    // 헤더 뱃지 (장바구니, 위시리스트, 안 읽은 알림 개수) 한 번에 조회
+    public UserResDto.UserBadgeResDto getBadges(Long userId) {
+        return new UserResDto.UserBadgeResDto(cartStoreService.count(userId),
+                badgeCounterService.getWishCount(userId),
+                badgeCounterService.getUnreadNotificationCount(userId));
     }
 
     public List<CartCommonDto.CartListDto> getCartsFindByUserId(Long userId) {
-        List<CartCommonDto.CartListDto> originalList = cartRepository.getCartsfindByUserId(userId);
-        return originalList;
+        return cartStoreService.getItems(userId);
     }
 
-    // 장바구니 추가
-    @Transactional
+    // 장바구니 추가 (같은 옵션이면 수량만 추가, DB에는 주기적으로 반영)
     public void addCart(Long userId, Long productId, Long optionId, Integer productCount) {
-        // 장바구니에 존재하는 상품과 옵션인지 확인
-        Optional<Cart> existingCart = cartRepository.findByUserIdAndOptionId(userId, optionId);
-        if (existingCart.isPresent()) {
-            // 수량만 추가
-            existingCart.get().updateCartCount(productCount);
-        } else {
-            // 장바구니에 저장
-            Cart cart = Cart.builder()
-                    .userId(userId)
-                    .productId(productId)
-                    .optionId(optionId)
-                    .cartCount(productCount)
-                    .build();
-            cartRepository.save(cart);
-        }
+        cartStoreService.add(userId, productId, optionId, productCount);
     }
 
-    @Transactional
-    public void deleteCartByCartId(Long cartId) {
-        cartRepository.deleteByCartId(cartId);
-
+    // 장바구니 일괄 삭제 (장바구니 번호는 옵션 번호, 삭제된 개수 반환)
+    public CartResDto.CartDeleteResDto deleteCartsByCartIds(Long userId, List<Long> cartIds) {
+        List<Long> ids = cartIds.stream().filter(Objects::nonNull).distinct().toList();
+        int deletedCount = ids.isEmpty() ? 0 : cartStoreService.remove(userId, ids);
+        return new CartResDto.CartDeleteResDto(deletedCount);
     }
 
     //작성한 qna 조회
@@ -260,7 +260,7 @@ public Page<OrderResDto<OrderDetailResDto>> getOrderDetailsWithoutReviewByUserId
         Pageable pageable = PageRequest.of(pageNo, DEFAULT_PAGE_SIZE);
         Page<WishlistItemDto> wishlistItems = wishlistRepository.findWishlistItemsByUserId(pageable, userId);
         WishResDto.WishlistResDto wishlistResDto = new WishResDto.WishlistResDto();
-        wishlistResDto.setWishCount(wishlistRepository.countByUserId(userId));
+        wishlistResDto.setWishCount(badgeCounterService.getWishCount(userId));
         wishlistResDto.setWishListItem(wishlistItems);
         return wishlistResDto;
     }
@@ -284,16 +284,35 @@ public Page<OrderResDto<OrderDetailResDto>> getOrderDetailsWithoutReviewByUserId
                 .productId(productId)
                 .build();
         wishlistRepository.save(wishlist);
+        badgeCounterService.adjustAfterCommit(userId, BadgeCounterService.Badge.WISH, 1);
+        wishMembershipService.addAfterCommit(userId, productId);
     }
 
     public WishResDto.IsWishResDto checkIsWish(Long userId, Long productId) {
-        return new WishResDto.IsWishResDto(wishlistRepository.existsByUserIdAndProductId(userId, productId));
+        return new WishResDto.IsWishResDto(wishMembershipService.isWish(userId, productId));
+    }
+
+    // 여러 상품의 찜 여부 한 번에 확인 (상품 목록 하트 표시용)
+    public WishResDto.WishCheckResDto checkIsWishes(Long userId, List<Long> productIds) {
+        List<Long> ids = productIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.size() > MAX_WISH_CHECK_SIZE) {
+            throw new BadRequestException(BAD_REQUEST);
+        }
+        return new WishResDto.WishCheckResDto(wishMembershipService.areWish(userId, ids));
     }
 
-    // 위시리스트 삭제
+    // 위시리스트 일괄 삭제 (DELETE 한 번, 삭제된 개수 반환)
     @Transactional
-    public void deleteWishlistById(Long wishlistId) {
-        wishlistRepository.deleteById(wishlistId);
+    public WishResDto.WishDeleteResDto deleteWishlistsByIds(Long userId, List<Long> wishlistIds) {
+        List<Long> ids = wishlistIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            return new WishResDto.WishDeleteResDto(0);
+        }
+        List<Long> productIds = wishlistRepository.findProductIdsByUserIdAndWishlistIdIn(userId, ids);
+        int deletedCount = wishlistRepository.deleteByUserIdAndWishlistIdIn(userId, ids);
+        badgeCounterService.adjustAfterCommit(userId, BadgeCounterService.Badge.WISH, -deletedCount);
+        wishMembershipService.removeAfterCommit(userId, productIds);
+        return new WishResDto.WishDeleteResDto(deletedCount);
     }
 
     // 문의 작성
@@ -403,61 +422,29 @@ public Page<OrderResDto<OrderDetailResDto>> getOrderDetailsWithoutReviewByUserId
         pageNo = pageVaildation(pageNo);
         Pageable pageable = PageRequest.of(pageNo, DEFAULT_PAGE_SIZE, Sort.by(Sort.Direction.DESC, "orderDate"));
 
-        Page<OrderCommonDto.OrderListDto> orderList = orderRepository.findByUserId(userId, pageable)
-                .map((o) -> {
-                    List<ProductCommonDto.ProductDetailListDto> productDetailListDtos = orderDetailRepository.findOrderDetailByOrderId(o.getOrderId());
-                    return new OrderCommonDto.OrderListDto(o, productDetailListDtos);
-                });
-//        Page<Order> orders = orderRepository.findByUserId(pageable, userId);
-
-        Long confPayCount = orderDetailRepository.safeCountOrderDetailByUserIdAndOrderDetailState(userId, OrderDetailState.ORDER_COMPLETE);
-        Long preShipCount = orderDetailRepository.safeCountOrderDetailByUserIdAndOrderDetailState(userId, OrderDetailState.DELIVERY_READY);
-        Long inTransitCount = orderDetailRepository.safeCountOrderDetailByUserIdAndOrderDetailState(userId, OrderDetailState.DELIVERY_ING);
-        Long cmpltDilCount = orderDetailRepository.safeCountOrderDetailByUserIdAndOrderDetailState(userId, OrderDetailState.DELIVERY_COMPLETE);
-        Long orderCancelCount = orderDetailRepository.safeCountOrderDetailByUserIdAndOrderDetailState(userId, OrderDetailState.ORDER_CANCEL);
-        Long returnCount = orderDetailRepository.safeCountOrderDetailByUserIdAndOrderDetailState(userId, OrderDetailState.RETURN_REQUEST) +
-                orderDetailRepository.safeCountOrderDetailByUserIdAndOrderDetailState(userId, OrderDetailState.RETURN_COMPLETE);
-
+        // 페이지의 주문 상세는 IN 쿼리 한 번으로 조회해 주문별로 묶음
+        Page<Order> orders = orderRepository.findByUserId(userId, pageable);
+        List<Long> orderIds = orders.map(Order::getOrderId).getContent();
+        Map<Long, List<ProductCommonDto.ProductDetailListDto>> detailsByOrderId = orderIds.isEmpty() ? Map.of()
+                : orderDetailRepository.findOrderDetailByOrderIdIn(orderIds).stream()
+                .collect(Collectors.groupingBy(ProductCommonDto.ProductDetailListDto::getOrderId));
+        Page<OrderCommonDto.OrderListDto> orderList = orders.map(o ->
+                new OrderCommonDto.OrderListDto(o, detailsByOrderId.getOrDefault(o.getOrderId(), List.of())));
+
+        // 주문 상태별 개수는 GROUP BY 한 번으로 조회 (없는 상태는 0)
+        Map<OrderDetailState, Long> stateCounts = new EnumMap<>(OrderDetailState.class);
+        for (Object[] row : orderDetailRepository.countOrderDetailStatesByUserId(userId)) {
+            stateCounts.put((OrderDetailState) row[0], (Long) row[1]);
+        }
 
         OrderResDto.OrderListResDto orderListResDto = new OrderResDto.OrderListResDto();
-
-//        if (confPayCount == null) {
-//            orderListResDto.setConfPayCount(0L);
-//        } else {
-//            orderListResDto.setConfPayCount(confPayCount);
-//        }
-//        if (preShipCount == null) {
-//            orderListResDto.setPreShipCount(0L);
-//        } else {
-//            orderListResDto.setPreShipCount(preShipCount);
-//        }
-//        if (inTransitCount == null) {
-//            orderListResDto.setInTransitCount(0L);
-//        } else {
-//            orderListResDto.setInTransitCount(inTransitCount);
-//        }
-//        if (cmpltDilCount == null) {
-//            orderListResDto.setCmpltDilCount(0L);
-//        } else {
-//            orderListResDto.setCmpltDilCount(cmpltDilCount);
-//        }
-//        if (orderCancelCount == null) {
-//            orderListResDto.setOrderCancelCount(0L);
-//        } else {
-//            orderListResDto.setOrderCancelCount(orderCancelCount);
-//        }
-//        if (returnCount == null) {
-//            orderListResDto.setReturnCount(0L);
-//        } else {
-//            orderListResDto.setReturnCount(returnCount);
-//        }
-
-        orderListResDto.setConfPayCount(confPayCount);
-        orderListResDto.setPreShipCount(preShipCount);
-        orderListResDto.setInTransitCount(inTransitCount);
-        orderListResDto.setCmpltDilCount(cmpltDilCount);
-        orderListResDto.setOrderCancelCount(orderCancelCount);
-        orderListResDto.setReturnCount(returnCount);
+        orderListResDto.setConfPayCount(stateCounts.getOrDefault(OrderDetailState.ORDER_COMPLETE, 0L));
+        orderListResDto.setPreShipCount(stateCounts.getOrDefault(OrderDetailState.DELIVERY_READY, 0L));
+        orderListResDto.setInTransitCount(stateCounts.getOrDefault(OrderDetailState.DELIVERY_ING, 0L));
+        orderListResDto.setCmpltDilCount(stateCounts.getOrDefault(OrderDetailState.DELIVERY_COMPLETE, 0L));
+        orderListResDto.setOrderCancelCount(stateCounts.getOrDefault(OrderDetailState.ORDER_CANCEL, 0L));
+        orderListResDto.setReturnCount(stateCounts.getOrDefault(OrderDetailState.RETURN_REQUEST, 0L)
+                + stateCounts.getOrDefault(OrderDetailState.RETURN_COMPLETE, 0L));
         orderListResDto.setOrderList(orderList);
 
         return orderListResDto;
@@ -494,11 +481,19 @@ public Page<OrderResDto<OrderDetailResDto>> getOrderDetailsWithoutReviewByUserId
     public OrderResDto.OrderDetailListResDto postOrderCancel(Long orderId, Long orderDetailId, Long userId, int pageNo) {
         pageNo = pageVaildation(pageNo);
         Pageable pageable = PageRequest.of(pageNo, DEFAULT_PAGE_SIZE);
+        // 이미 취소된 주문 상세는 재고를 다시 복구하지 않음
+        OrderDetailState previousState = orderDetailRepository.findByOrderDetailId(orderDetailId).getOrderDetailState();
+
         // orderstate를 주문취소로 바꾸고 시간 현재시간으로 변경
         orderDetailRepository.updateOrderDetailUpdateDateAndOrderDetailStateByOrderDetailId(orderDetailId, OrderDetailState.ORDER_CANCEL);
         OrderDetail orderDetail = orderDetailRepository.findByOrderDetailId(orderDetailId);
         orderDetail.updateOrderDetailUpdateDate();
 
+        // 취소 수량만큼 재고 복구
+        if (previousState != OrderDetailState.ORDER_CANCEL) {
+            stockReservationService.restock(orderDetail.getOptionId(), orderDetail.getOrderDetailCount());
+        }
+
         // 계산값 적용
         Integer orderDetailSalePrice = orderDetailRepository.orderDetailTotalSalePrice(orderDetailId);
         Integer orderDetailPrice = orderDetailRepository.orderDetailTotalPrice(orderDetailId);
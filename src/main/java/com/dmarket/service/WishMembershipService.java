@@ -0,0 +1,133 @@
+package com.dmarket.service;
+
+import com.dmarket.event.AfterCommit;
+import com.dmarket.repository.user.WishlistRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 위시리스트 포함 여부
+ * - 사용자별 찜한 상품 번호를 Redis 집합(wish:{userId})으로 보관해 상품 상세, 목록의 하트 표시를 SMISMEMBER 한 번으로 판단
+ * - 집합이 없으면 wishlist 테이블에서 상품 번호만 읽어 채움 (적재 여부는 LOADED_MEMBER로 표시)
+ * - 찜 추가/삭제 트랜잭션 커밋 후 집합에 반영 (집합이 없으면 다음 조회 때 다시 적재)
+ * - 변경마다 버전(wish-ver:{userId})을 올리고, 적재는 DB를 읽기 전 버전이 그대로일 때만 저장
+ *   (적재 도중 커밋된 변경을 놓친 목록이 집합에 남지 않도록 함)
+ */
+@Service
+@RequiredArgsConstructor
+public class WishMembershipService {
+
+    private static final String WISH_KEY_PREFIX = "wish:";
+    private static final String VERSION_KEY_PREFIX = "wish-ver:";
+    private static final String LOADED_MEMBER = "_";
+
+    // 버전을 올린 뒤 집합이 적재되어 있을 때만 추가/제거 (적재 전 일부만 들어가는 것 방지)
+    // KEYS: 집합, 버전 / ARGV: 버전 유지 초, 상품 번호...
+    private static final RedisScript<Long> ADD_IF_LOADED = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "if redis.call('SISMEMBER', KEYS[1], '" + LOADED_MEMBER + "') == 0 then return 0 end " +
+            "return redis.call('SADD', KEYS[1], unpack(ARGV, 2))", Long.class);
+    private static final RedisScript<Long> REMOVE_IF_LOADED = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "if redis.call('SISMEMBER', KEYS[1], '" + LOADED_MEMBER + "') == 0 then return 0 end " +
+            "return redis.call('SREM', KEYS[1], unpack(ARGV, 2))", Long.class);
+
+    // DB를 읽기 전 버전과 같을 때만 적재 (KEYS: 집합, 버전 / ARGV: 읽기 전 버전, 유지 초, 상품 번호...)
+    private static final RedisScript<Long> LOAD_IF_UNCHANGED = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+            "if redis.call('SISMEMBER', KEYS[1], '" + LOADED_MEMBER + "') == 1 then return 1 end " +
+            "redis.call('SADD', KEYS[1], unpack(ARGV, 3)) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final WishlistRepository wishlistRepository;
+
+    // 집합 유지 기간 (만료되면 다음 조회 때 DB에서 다시 적재)
+    @Value("${wish.membership.ttl-hours:24}")
+    private long ttlHours;
+
+    public boolean isWish(Long userId, Long productId) {
+        return areWish(userId, List.of(productId)).get(productId);
+    }
+
+    // 상품 번호별 찜 여부 (요청 순서 유지)
+    public Map<Long, Boolean> areWish(Long userId, Collection<Long> productIds) {
+        Map<Long, Boolean> result = new LinkedHashMap<>();
+        if (productIds.isEmpty()) {
+            return result;
+        }
+        String key = key(userId);
+        if (Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(key, LOADED_MEMBER))) {
+            Map<Object, Boolean> members = stringRedisTemplate.opsForSet()
+                    .isMember(key, productIds.stream().map(String::valueOf).toArray());
+            for (Long productId : productIds) {
+                result.put(productId, Boolean.TRUE.equals(members.get(String.valueOf(productId))));
+            }
+            return result;
+        }
+        // 집합이 없으면 DB에서 읽은 목록으로 답하고 집합 적재 시도
+        Set<Long> wished = load(userId);
+        for (Long productId : productIds) {
+            result.put(productId, wished.contains(productId));
+        }
+        return result;
+    }
+
+    // 현재 트랜잭션 커밋 후 찜한 상품 추가
+    public void addAfterCommit(Long userId, Long productId) {
+        AfterCommit.run(() -> stringRedisTemplate.execute(ADD_IF_LOADED, List.of(key(userId), versionKey(userId)),
+                ttlSeconds(), String.valueOf(productId)));
+    }
+
+    // 현재 트랜잭션 커밋 후 찜한 상품 제거
+    public void removeAfterCommit(Long userId, Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>();
+        args.add(ttlSeconds());
+        productIds.forEach(productId -> args.add(String.valueOf(productId)));
+        AfterCommit.run(() -> stringRedisTemplate.execute(REMOVE_IF_LOADED, List.of(key(userId), versionKey(userId)),
+                args.toArray()));
+    }
+
+    // DB에서 찜한 상품 번호를 읽고, 그사이 변경이 없었으면 집합에 적재
+    private Set<Long> load(Long userId) {
+        String version = stringRedisTemplate.opsForValue().get(versionKey(userId));
+        Set<Long> wished = new HashSet<>(wishlistRepository.findProductIdsByUserId(userId));
+
+        List<String> args = new ArrayList<>();
+        args.add(version == null ? "0" : version);
+        args.add(ttlSeconds());
+        wished.forEach(productId -> args.add(String.valueOf(productId)));
+        args.add(LOADED_MEMBER);
+        stringRedisTemplate.execute(LOAD_IF_UNCHANGED, List.of(key(userId), versionKey(userId)), args.toArray());
+        return wished;
+    }
+
+    private String ttlSeconds() {
+        return String.valueOf(Duration.ofHours(ttlHours).toSeconds());
+    }
+
+    private String key(Long userId) {
+        return WISH_KEY_PREFIX + userId;
+    }
+
+    private String versionKey(Long userId) {
+        return VERSION_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,128 @@
+package com.dmarket.service;
+
+import com.dmarket.domain.product.Category;
+import com.dmarket.domain.product.Product;
+import com.dmarket.domain.product.ProductImgs;
+import com.dmarket.domain.product.ProductOption;
+import com.dmarket.dto.response.ProductResDto;
+import com.dmarket.repository.product.CategoryRepository;
+import com.dmarket.repository.product.ProductImgsRepository;
+import com.dmarket.repository.product.ProductOptionRepository;
+import com.dmarket.repository.product.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AdminServiceTest {
+
+    private static final Long CATEGORY_ID = 1L;
+    private static final int OPTIONS_PER_PRODUCT = 2;
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private ProductOptionRepository productOptionRepository;
+    @Mock
+    private ProductImgsRepository productImgsRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @InjectMocks
+    private AdminService adminService;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 10})
+    @DisplayName("카테고리별 상품 목록은 상품 수와 관계없이 옵션, 이미지를 한 번씩만 조회")
+    public void categoryProductListQueriesOnce(int productCount) {
+        givenPage(productCount);
+        when(productRepository.findAdminProductsByCateId(any(), eq(CATEGORY_ID))).thenReturn(new PageImpl<>(products(productCount)));
+
+        ProductResDto.ProductListAdminResDto result = adminService.getProductListByCategoryId(CATEGORY_ID, 1);
+
+        assertPageQueries(productCount, result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 10})
+    @DisplayName("상품 목록 검색은 상품 수와 관계없이 옵션, 이미지를 한 번씩만 조회")
+    public void searchProductListQueriesOnce(int productCount) {
+        givenPage(productCount);
+        when(productRepository.findAdminProductsByQuery(any(), eq(CATEGORY_ID), eq("상품"))).thenReturn(new PageImpl<>(products(productCount)));
+
+        ProductResDto.ProductListAdminResDto result = adminService.getProductListBySearch(CATEGORY_ID, "상품", 1);
+
+        assertPageQueries(productCount, result);
+    }
+
+    private void givenPage(int productCount) {
+        when(categoryRepository.findByCategoryId(CATEGORY_ID)).thenReturn(mock(Category.class));
+        when(productOptionRepository.findOptionsByProductIdIn(anyList())).thenReturn(options(productCount));
+        when(productImgsRepository.findAllByProductIdIn(anyList())).thenReturn(imgs(productCount));
+    }
+
+    private void assertPageQueries(int productCount, ProductResDto.ProductListAdminResDto result) {
+        verify(productOptionRepository, times(1)).findOptionsByProductIdIn(anyList());
+        verify(productImgsRepository, times(1)).findAllByProductIdIn(anyList());
+        verify(productImgsRepository, never()).findAllByProductId(anyLong());
+        verifyNoMoreInteractions(productOptionRepository, productImgsRepository);
+
+        // 상품마다 옵션 수만큼 행이 생기고, 각 행은 해당 상품의 이미지만 가짐
+        assertEquals(productCount * OPTIONS_PER_PRODUCT, result.getProductList().size());
+        result.getProductList().forEach(row -> assertEquals(List.of("img-" + row.getProductId()), row.getImgList()));
+    }
+
+    private List<Product> products(int count) {
+        List<Product> products = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            Product product = Product.builder().categoryId(CATEGORY_ID).productName("상품" + id).build();
+            ReflectionTestUtils.setField(product, "productId", id);
+            products.add(product);
+        }
+        return products;
+    }
+
+    private List<ProductOption> options(int count) {
+        List<ProductOption> options = new ArrayList<>();
+        long optionId = 1;
+        for (long id = 1; id <= count; id++) {
+            for (int i = 0; i < OPTIONS_PER_PRODUCT; i++) {
+                ProductOption option = ProductOption.builder().productId(id).optionName("색상").optionValue("값" + i).optionQuantity(10).build();
+                ReflectionTestUtils.setField(option, "optionId", optionId++);
+                options.add(option);
+            }
+        }
+        return options;
+    }
+
+    private List<ProductImgs> imgs(int count) {
+        List<ProductImgs> imgs = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            ProductImgs img = ProductImgs.builder().productId(id).imgAddress("img-" + id).build();
+            ReflectionTestUtils.setField(img, "imgId", id);
+            imgs.add(img);
+        }
+        return imgs;
+    }
+}
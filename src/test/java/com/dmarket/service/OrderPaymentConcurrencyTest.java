@@ -0,0 +1,321 @@
+package com.dmarket.service;
+
+import com.dmarket.constant.OrderDetailState;
+import com.dmarket.domain.order.Order;
+import com.dmarket.domain.order.OrderDetail;
+import com.dmarket.domain.product.ProductOption;
+import com.dmarket.domain.user.User;
+import com.dmarket.dto.request.OrderReqDto;
+import com.dmarket.repository.order.OrderDetailRepository;
+import com.dmarket.repository.order.OrderRepository;
+import com.dmarket.repository.product.ProductOptionRepository;
+import com.dmarket.repository.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 결제(OrderService.payment)를 트랜잭션 경계와 함께 실행해 재고 예약 엔진의 커밋/롤백/취소/만료 경로 검증
+ * DB 없이 트랜잭션 동기화(커밋 후 확정, 롤백 시 복구)만 동작하는 트랜잭션 매니저를 사용합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class OrderPaymentConcurrencyTest {
+
+    private static final Long PRODUCT_ID = 1L;
+    private static final Long OPTION_ID = 1L;
+    private static final int PRICE = 1000;
+    private static final int STOCK = 100;
+
+    @Mock
+    private UserService mockUserService;
+    @Mock
+    private PricingService pricingService;
+    @Mock
+    private CartStoreService cartStoreService;
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private OrderDetailRepository orderDetailRepository;
+    @Mock
+    private ProductOptionRepository productOptionRepository;
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private OrderService orderService;
+    @InjectMocks
+    private UserService userService;
+
+    private StockReservationService stockReservationService;
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new SynchronizationOnlyTransactionManager());
+    private final AtomicLong orderSequence = new AtomicLong();
+
+    @BeforeEach
+    public void setUp() {
+        stockReservationService = new StockReservationService(productOptionRepository, event -> { }, transactionTemplate);
+        ReflectionTestUtils.setField(stockReservationService, "reservationTtlMs", 60_000L);
+        ReflectionTestUtils.setField(orderService, "userService", mockUserService);
+        ReflectionTestUtils.setField(orderService, "stockReservationService", stockReservationService);
+        ReflectionTestUtils.setField(userService, "stockReservationService", stockReservationService);
+
+        givenStock(STOCK);
+        PricingService.PriceSnapshot snapshot = new PricingService.PriceSnapshot(PRODUCT_ID, "브랜드", "상품", PRICE, PRICE, "img");
+        when(pricingService.priceBasket(anyList())).thenReturn(new PricingService.PricedBasket(
+                List.of(new PricingService.PricedItem(PRODUCT_ID, OPTION_ID, 1, snapshot, PRICE, PRICE)), PRICE, PRICE));
+        when(mockUserService.findUserById(anyLong())).thenAnswer(invocation -> user());
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            ReflectionTestUtils.setField(order, "orderId", orderSequence.incrementAndGet());
+            return order;
+        });
+    }
+
+    @Test
+    @DisplayName("동시 결제 중 일부가 롤백되어도 재고 이상으로 판매되지 않고, 롤백된 예약은 재고로 복구")
+    public void concurrentPaymentsWithRollbackNeverOversell() throws Exception {
+        // 주문 번호가 4의 배수인 결제는 주문 상세 저장 중 실패 -> 롤백
+        when(orderDetailRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<OrderDetail> details = invocation.getArgument(0);
+            if (details.get(0).getOrderId() % 4 == 0) {
+                throw new IllegalStateException("저장 실패");
+            }
+            return details;
+        });
+
+        int threads = 32;
+        int requests = 300;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            long userId = i + 1;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    transactionTemplate.execute(status -> orderService.payment(paymentReq(userId)));
+                    committed.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    // 재고 부족 또는 저장 실패로 롤백
+                    failed.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(requests, committed.get() + failed.get());
+        assertTrue(committed.get() <= STOCK);
+        // 롤백된 결제의 예약은 모두 복구되어 남은 재고 + 커밋된 주문 수 = 전체 재고
+        assertEquals(STOCK - committed.get(), stockReservationService.getAvailable(OPTION_ID));
+        assertEquals(committed.get(), flushedDelta());
+    }
+
+    @Test
+    @DisplayName("주문 취소가 롤백되면 재고를 복구하지 않고, 커밋된 뒤에만 복구")
+    public void cancelRestocksOnlyAfterCommit() {
+        transactionTemplate.execute(status -> orderService.payment(paymentReq(1L)));
+        assertEquals(STOCK - 1, stockReservationService.getAvailable(OPTION_ID));
+
+        OrderDetail orderDetail = OrderDetail.builder().orderId(1L).optionId(OPTION_ID).productId(PRODUCT_ID)
+                .orderDetailState(OrderDetailState.ORDER_COMPLETE).orderDetailCount(1).build();
+        when(orderDetailRepository.findByOrderDetailId(1L)).thenReturn(orderDetail);
+        when(orderRepository.findByOrderDetailId(1L)).thenReturn(Order.builder().userId(1L).orderTotalPay(PRICE).orderTotalPrice(PRICE).build());
+        when(userRepository.findByUserId(1L)).thenReturn(user());
+
+        // 취소 트랜잭션 실패 -> 재고 그대로
+        doThrow(new IllegalStateException("취소 실패")).when(orderRepository).updateOrderTotalPrice(eq(1L), any(), any());
+        assertThrows(IllegalStateException.class,
+                () -> transactionTemplate.execute(status -> userService.postOrderCancel(1L, 1L, 1L, 1)));
+        assertEquals(STOCK - 1, stockReservationService.getAvailable(OPTION_ID));
+
+        // 취소 커밋 -> 재고 복구, DB에는 차감과 복구가 상쇄되어 반영할 것이 없음
+        doNothing().when(orderRepository).updateOrderTotalPrice(any(), any(), any());
+        transactionTemplate.execute(status -> userService.postOrderCancel(1L, 1L, 1L, 1));
+        assertEquals(STOCK, stockReservationService.getAvailable(OPTION_ID));
+        stockReservationService.flush();
+        verify(productOptionRepository, never()).decreaseOptionQuantity(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("예약 만료 후 커밋된 결제는 다시 차감되어 DB에 반영")
+    public void expiredReservationIsReservedAgainOnCommit() {
+        ReflectionTestUtils.setField(stockReservationService, "reservationTtlMs", -1L);
+
+        transactionTemplate.execute(status -> {
+            orderService.payment(paymentReq(1L));
+            // 결제 트랜잭션이 끝나기 전에 예약 만료 -> 재고 복구
+            stockReservationService.expireReservations();
+            assertEquals(STOCK, stockReservationService.getAvailable(OPTION_ID));
+            return null;
+        });
+
+        assertEquals(STOCK - 1, stockReservationService.getAvailable(OPTION_ID));
+        assertEquals(1, flushedDelta());
+    }
+
+    @Test
+    @DisplayName("예약 만료 후 그 재고가 다시 팔린 상태에서 커밋되면 차감은 반영하고 초과 판매로 남김")
+    public void expiredReservationCommittedAfterResaleIsStillCounted() throws Exception {
+        givenStock(1);
+        ReflectionTestUtils.setField(stockReservationService, "reservationTtlMs", -1L);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        transactionTemplate.execute(status -> {
+            orderService.payment(paymentReq(1L));
+            stockReservationService.expireReservations();
+            // 만료로 복구된 재고를 다른 결제가 가져가서 커밋
+            try {
+                executor.submit(() -> transactionTemplate.execute(other -> orderService.payment(paymentReq(2L))))
+                        .get(10, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return null;
+        });
+        executor.shutdown();
+
+        // 두 주문 모두 커밋되었으므로 카운터와 DB 모두 두 건을 차감 (음수 재고로 초과 판매가 드러남)
+        assertEquals(-1, stockReservationService.getAvailable(OPTION_ID));
+        assertEquals(2, flushedDelta());
+    }
+
+    @Test
+    @DisplayName("DB 반영이 커밋되기 전 카운터를 다시 읽어도 반영 중인 차감분을 제외")
+    public void counterLoadedDuringFlushExcludesInFlightDeltas() {
+        transactionTemplate.execute(status -> orderService.payment(paymentReq(1L)));
+
+        transactionTemplate.execute(status -> {
+            stockReservationService.flush();
+            // 커밋 전: DB는 아직 차감 전 값이므로 카운터를 다시 읽으면 반영 중 차감분을 빼야 함
+            stockReservationService.evict(OPTION_ID);
+            Long reservationId = stockReservationService.reserve(OPTION_ID, 1);
+            assertEquals(STOCK - 2, stockReservationService.getAvailable(OPTION_ID));
+            stockReservationService.release(reservationId);
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("DB 반영 중 카운터가 없어진 뒤 결제해도 이미 판매된 재고를 다시 팔지 않음")
+    public void paymentDuringFlushExcludesInFlightDeltas() {
+        transactionTemplate.execute(status -> orderService.payment(paymentReq(1L)));
+
+        transactionTemplate.execute(status -> {
+            stockReservationService.flush();
+            // 커밋 전: DB(STOCK)에는 첫 주문 차감이 아직 없으므로 결제 경로의 카운터 적재가 반영 중 차감분을 빼야 함
+            stockReservationService.evict(OPTION_ID);
+            orderService.payment(paymentReq(2L));
+            assertEquals(STOCK - 2, stockReservationService.getAvailable(OPTION_ID));
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("종료 시 아직 반영되지 않은 확정 차감분을 DB에 반영")
+    public void shutdownFlushesConfirmedDeltas() {
+        transactionTemplate.execute(status -> orderService.payment(paymentReq(1L)));
+        transactionTemplate.execute(status -> orderService.payment(paymentReq(2L)));
+
+        stockReservationService.flushOnShutdown();
+
+        verify(productOptionRepository).decreaseOptionQuantity(OPTION_ID, 2);
+    }
+
+    private void givenStock(int stock) {
+        ProductOption option = ProductOption.builder().productId(PRODUCT_ID).optionName("색상").optionValue("값").optionQuantity(stock).build();
+        ReflectionTestUtils.setField(option, "optionId", OPTION_ID);
+        when(productOptionRepository.findQuantityByOptionId(OPTION_ID)).thenReturn(Optional.of(stock));
+        when(productOptionRepository.findAllById(anyList())).thenReturn(List.of(option));
+    }
+
+    private int flushedDelta() {
+        stockReservationService.flush();
+        ArgumentCaptor<Integer> delta = ArgumentCaptor.forClass(Integer.class);
+        verify(productOptionRepository).decreaseOptionQuantity(eq(OPTION_ID), delta.capture());
+        return delta.getValue();
+    }
+
+    private OrderReqDto.OrderPaymentReqDto paymentReq(Long userId) {
+        OrderReqDto.OrderPaymentReqDto.OrderDetail detail = new OrderReqDto.OrderPaymentReqDto.OrderDetail();
+        detail.setProductId(PRODUCT_ID);
+        detail.setOptionId(OPTION_ID);
+        detail.setOrderDetailCount(1);
+        OrderReqDto.OrderPaymentReqDto dto = new OrderReqDto.OrderPaymentReqDto();
+        dto.setUserId(userId);
+        dto.setOrderTotalPrice(PRICE);
+        dto.setOrderTotalPay(PRICE);
+        dto.setOrderDetailList(new OrderReqDto.OrderPaymentReqDto.OrderDetail[]{detail});
+        return dto;
+    }
+
+    private User user() {
+        User user = User.builder().userName("사용자").userJoinDate(LocalDate.of(2024, 1, 2)).build();
+        ReflectionTestUtils.setField(user, "userMileage", 1_000_000);
+        return user;
+    }
+
+    // 커밋/롤백 시 트랜잭션 동기화 콜백만 실행하는 트랜잭션 매니저
+    private static class SynchronizationOnlyTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
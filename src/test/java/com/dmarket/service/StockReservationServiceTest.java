@@ -0,0 +1,112 @@
+package com.dmarket.service;
+
+import com.dmarket.repository.product.ProductOptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class StockReservationServiceTest {
+
+    private static final Long OPTION_ID = 1L;
+    private static final int STOCK = 100;
+
+    private ProductOptionRepository productOptionRepository;
+    private StockReservationService stockReservationService;
+
+    @BeforeEach
+    public void setUp() {
+        productOptionRepository = mock(ProductOptionRepository.class);
+        when(productOptionRepository.findQuantityByOptionId(anyLong())).thenReturn(Optional.of(STOCK));
+        stockReservationService = new StockReservationService(productOptionRepository, mock(ApplicationEventPublisher.class), mock(TransactionTemplate.class));
+    }
+
+    @Test
+    @DisplayName("동시 예약 시 재고 이상으로 판매되지 않음")
+    public void concurrentReserveNeverOversells() throws Exception {
+        int threads = 32;
+        int requests = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    Long reservationId = stockReservationService.reserve(OPTION_ID, 1);
+                    stockReservationService.confirm(reservationId);
+                    success.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    soldOut.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(STOCK, success.get());
+        assertEquals(requests - STOCK, soldOut.get());
+        assertEquals(0, stockReservationService.getAvailable(OPTION_ID));
+
+        // 확정된 차감분은 한 번의 업데이트로 합쳐서 반영
+        stockReservationService.flush();
+        verify(productOptionRepository).decreaseOptionQuantity(OPTION_ID, STOCK);
+    }
+
+    @Test
+    @DisplayName("예약 취소 시 재고 복구")
+    public void releaseRestoresStock() {
+        Long reservationId = stockReservationService.reserve(OPTION_ID, 30);
+        assertEquals(STOCK - 30, stockReservationService.getAvailable(OPTION_ID));
+
+        stockReservationService.release(reservationId);
+        assertEquals(STOCK, stockReservationService.getAvailable(OPTION_ID));
+    }
+
+    @Test
+    @DisplayName("재고보다 많은 수량 예약 시 예외")
+    public void reserveMoreThanStockThrows() {
+        assertThrows(IllegalStateException.class, () -> stockReservationService.reserve(OPTION_ID, STOCK + 1));
+        assertEquals(STOCK, stockReservationService.getAvailable(OPTION_ID));
+    }
+
+    @Test
+    @DisplayName("옵션이 삭제된 뒤 예약 취소, 주문 취소 재고 복구는 예외 없이 생략")
+    public void releaseAndRestockSkipDeletedOption() {
+        Long reservationId = stockReservationService.reserve(OPTION_ID, 10);
+        // 옵션 삭제 커밋 후 카운터 제거
+        stockReservationService.evictAfterCommit(OPTION_ID);
+        when(productOptionRepository.findQuantityByOptionId(OPTION_ID)).thenReturn(Optional.empty());
+
+        assertDoesNotThrow(() -> stockReservationService.release(reservationId));
+        assertDoesNotThrow(() -> stockReservationService.restock(OPTION_ID, 5));
+        assertNull(stockReservationService.getAvailable(OPTION_ID));
+    }
+}